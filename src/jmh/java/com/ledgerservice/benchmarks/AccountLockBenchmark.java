@@ -0,0 +1,59 @@
+package com.ledgerservice.benchmarks;
+
+import com.ledgerservice.infrastructure.concurrency.StripedAccountLocks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Throughput of concurrent transfers against the number of lock stripes
+ * 
+ * Each invocation locks two random accounts out of a fixed pool, spends a
+ * small amount of CPU inside the critical section (stand-in for the writes)
+ * and releases them. With few stripes unrelated accounts collide; throughput
+ * should climb with the stripe count until it reaches the real account-level
+ * contention of the pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class AccountLockBenchmark {
+
+    @Param({ "1", "16", "256", "1024" })
+    private int stripes;
+
+    @Param({ "10000" })
+    private int accounts;
+
+    private StripedAccountLocks locks;
+    private UUID[] accountIds;
+
+    @Setup
+    public void setUp() {
+        locks = new StripedAccountLocks(stripes, new SimpleMeterRegistry());
+        accountIds = IntStream.range(0, accounts)
+                .mapToObj(i -> UUID.randomUUID())
+                .toArray(UUID[]::new);
+    }
+
+    @Benchmark
+    public void transfer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UUID source = accountIds[random.nextInt(accountIds.length)];
+        UUID target = accountIds[random.nextInt(accountIds.length)];
+
+        try (var lease = locks.acquire(List.of(source, target))) {
+            Blackhole.consumeCPU(500);
+        }
+    }
+}
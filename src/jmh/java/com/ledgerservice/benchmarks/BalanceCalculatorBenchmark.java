@@ -0,0 +1,69 @@
+package com.ledgerservice.benchmarks;
+
+import com.ledgerservice.domain.entities.Entry;
+import com.ledgerservice.domain.enums.Direction;
+import com.ledgerservice.domain.services.BalanceCalculator;
+import com.ledgerservice.domain.valueobjects.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory balance of an account history (VERIFY mode path)
+ * calculateBalanceUpTo cuts the history in the middle
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BalanceCalculatorBenchmark {
+
+    @Param({ "100", "10000", "1000000" })
+    private int entries;
+
+    private final BalanceCalculator balanceCalculator = new BalanceCalculator();
+
+    private List<Entry> history;
+    private LocalDateTime midpoint;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        UUID accountId = UUID.randomUUID();
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        history = IntStream.range(0, entries)
+                .mapToObj(i -> {
+                    boolean credit = random.nextInt(3) > 0;
+                    Money amount = Money.ofUnits(random.nextLong(1, 10_000_000L));
+                    return Entry.reconstitute(
+                            UUID.randomUUID(),
+                            UUID.randomUUID(),
+                            accountId,
+                            credit ? amount : amount.negate(),
+                            credit ? Direction.CREDIT : Direction.DEBIT,
+                            credit ? "deposit" : "withdrawal",
+                            "benchmark",
+                            start.plusSeconds(i));
+                })
+                .toList();
+        midpoint = start.plusSeconds(entries / 2);
+    }
+
+    @Benchmark
+    public Money calculateBalance() {
+        return balanceCalculator.calculateBalance(history);
+    }
+
+    @Benchmark
+    public Money calculateBalanceUpTo() {
+        return balanceCalculator.calculateBalanceUpTo(history, midpoint);
+    }
+}
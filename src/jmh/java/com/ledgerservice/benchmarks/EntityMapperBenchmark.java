@@ -0,0 +1,66 @@
+package com.ledgerservice.benchmarks;
+
+import com.ledgerservice.domain.entities.Entry;
+import com.ledgerservice.domain.enums.Direction;
+import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.infrastructure.persistence.entities.EntryJpaEntity;
+import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Cost of mapping entries between the domain and JPA
+ * Every loaded entry goes through toDomain, every posted one through toJpa
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityMapperBenchmark {
+
+    @Param({ "1", "1000", "100000" })
+    private int entries;
+
+    private List<Entry> domainEntries;
+    private List<EntryJpaEntity> jpaEntries;
+
+    @Setup
+    public void setUp() {
+        UUID accountId = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        jpaEntries = IntStream.range(0, entries)
+                .mapToObj(i -> new EntryJpaEntity(
+                        UUID.randomUUID(),
+                        UUID.randomUUID(),
+                        accountId,
+                        BigDecimal.valueOf(10_000L + i, 4),
+                        Direction.CREDIT,
+                        "deposit",
+                        "benchmark",
+                        createdAt.plusSeconds(i)))
+                .toList();
+        domainEntries = jpaEntries.stream().map(EntityMapper::toDomain).toList();
+    }
+
+    @Benchmark
+    public void toDomain(Blackhole blackhole) {
+        for (EntryJpaEntity entry : jpaEntries)
+            blackhole.consume(EntityMapper.toDomain(entry));
+    }
+
+    @Benchmark
+    public void toJpa(Blackhole blackhole) {
+        for (Entry entry : domainEntries)
+            blackhole.consume(EntityMapper.toJpa(entry));
+    }
+}
@@ -0,0 +1,56 @@
+package com.ledgerservice.benchmarks;
+
+import com.ledgerservice.domain.entities.Entry;
+import com.ledgerservice.domain.enums.OperationType;
+import com.ledgerservice.domain.services.EntryFactory;
+import com.ledgerservice.domain.valueobjects.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating the entries of an operation
+ * Includes a random UUID and a timestamp per entry
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntryFactoryBenchmark {
+
+    private final EntryFactory entryFactory = new EntryFactory();
+
+    private UUID operationId;
+    private UUID sourceAccountId;
+    private UUID targetAccountId;
+    private Money amount;
+
+    @Setup
+    public void setUp() {
+        operationId = UUID.randomUUID();
+        sourceAccountId = UUID.randomUUID();
+        targetAccountId = UUID.randomUUID();
+        amount = Money.of("150.25");
+    }
+
+    @Benchmark
+    public Entry createDebitEntry() {
+        return entryFactory.createDebitEntry(operationId, sourceAccountId, amount, "withdrawal", "benchmark");
+    }
+
+    @Benchmark
+    public Entry createCreditEntry() {
+        return entryFactory.createCreditEntry(operationId, targetAccountId, amount, "deposit", "benchmark");
+    }
+
+    @Benchmark
+    public boolean createAndValidateTransfer() {
+        List<Entry> entries = entryFactory.createOperationEntries(
+                operationId, OperationType.TRANSFER, sourceAccountId, targetAccountId, amount, "benchmark");
+        return entryFactory.validateDoubleEntry(entries.toArray(Entry[]::new));
+    }
+}
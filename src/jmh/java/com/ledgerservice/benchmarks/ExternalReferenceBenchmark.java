@@ -0,0 +1,38 @@
+package com.ledgerservice.benchmarks;
+
+import com.ledgerservice.domain.valueobjects.ExternalReference;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of validating an external reference (trim + length + regex)
+ * Paid once per incoming operation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExternalReferenceBenchmark {
+
+    @Param({ "8", "64", "255" })
+    private int length;
+
+    private String reference;
+
+    @Setup
+    public void setUp() {
+        String alphabet = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789-_";
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++)
+            builder.append(alphabet.charAt(i % alphabet.length()));
+        reference = builder.toString();
+    }
+
+    @Benchmark
+    public ExternalReference of() {
+        return ExternalReference.of(reference);
+    }
+}
@@ -0,0 +1,67 @@
+package com.ledgerservice.benchmarks;
+
+import com.ledgerservice.domain.valueobjects.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating Money and of its arithmetic
+ * 
+ * of(BigDecimal) covers the HALF_UP rounding to scale 4 done for every
+ * amount read from the database or the API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private BigDecimal scaled;
+    private BigDecimal unscaled;
+    private String text;
+    private Money left;
+    private Money right;
+
+    @Setup
+    public void setUp() {
+        scaled = new BigDecimal("1234.5678");
+        unscaled = new BigDecimal("1234.56789");
+        text = "1234.5678";
+        left = Money.of(scaled);
+        right = Money.of("98.7654");
+    }
+
+    @Benchmark
+    public Money ofScaledBigDecimal() {
+        return Money.of(scaled);
+    }
+
+    @Benchmark
+    public Money ofRoundedBigDecimal() {
+        return Money.of(unscaled);
+    }
+
+    @Benchmark
+    public Money ofString() {
+        return Money.of(text);
+    }
+
+    @Benchmark
+    public Money add() {
+        return left.add(right);
+    }
+
+    @Benchmark
+    public Money subtract() {
+        return left.subtract(right);
+    }
+
+    @Benchmark
+    public BigDecimal getValue() {
+        return left.getValue();
+    }
+}
@@ -0,0 +1,52 @@
+package com.ledgerservice.benchmarks;
+
+import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.domain.valueobjects.MoneyAccumulator;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Summing entry amounts: Money::add reduce against MoneyAccumulator
+ * 
+ * The reduce allocates a Money and a BigDecimal per term; the accumulator
+ * keeps a long sum. Run with -prof gc to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MoneySummationBenchmark {
+
+    @Param({ "1000", "100000", "10000000" })
+    private int entries;
+
+    private List<Money> amounts;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        amounts = IntStream.range(0, entries)
+                .mapToObj(i -> Money.of(BigDecimal.valueOf(random.nextLong(-1_000_000_00L, 1_000_000_00L), 2)))
+                .toList();
+    }
+
+    @Benchmark
+    public Money reduce() {
+        return amounts.stream().reduce(Money.zero(), Money::add);
+    }
+
+    @Benchmark
+    public Money accumulator() {
+        MoneyAccumulator sum = MoneyAccumulator.zero();
+        for (Money amount : amounts)
+            sum.add(amount);
+        return sum.toMoney();
+    }
+}
@@ -1,15 +1,37 @@
 package com.ledgerservice.api.controllers;
 
+import com.ledgerservice.api.dtos.request.BalancesAsOfRequest;
+import com.ledgerservice.api.dtos.request.BalancesRequest;
+import com.ledgerservice.api.dtos.response.BalanceCheckpointResponse;
 import com.ledgerservice.api.dtos.response.BalanceResponse;
+import com.ledgerservice.api.dtos.response.BalancesResponse;
+import com.ledgerservice.api.dtos.response.CheckpointAuditResponse;
+import com.ledgerservice.application.services.BalanceMode;
 import com.ledgerservice.application.usecases.CalculateBalanceUseCase;
+import com.ledgerservice.application.usecases.CalculateBalancesUseCase;
+import com.ledgerservice.application.usecases.CalculateBalancesUseCase.AccountBalance;
+import com.ledgerservice.application.usecases.CheckpointBalanceUseCase;
+import com.ledgerservice.application.usecases.ExportEntriesUseCase;
+import com.ledgerservice.domain.entities.BalanceCheckpoint;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -21,23 +43,135 @@ import java.util.UUID;
 public class AccountController {
 
     private final CalculateBalanceUseCase calculateBalanceUseCase;
+    private final CalculateBalancesUseCase calculateBalancesUseCase;
+    private final CheckpointBalanceUseCase checkpointBalanceUseCase;
+    private final ExportEntriesUseCase exportEntriesUseCase;
 
-    public AccountController(CalculateBalanceUseCase calculateBalanceUseCase) {
+    public AccountController(
+            CalculateBalanceUseCase calculateBalanceUseCase,
+            CalculateBalancesUseCase calculateBalancesUseCase,
+            CheckpointBalanceUseCase checkpointBalanceUseCase,
+            ExportEntriesUseCase exportEntriesUseCase) {
         this.calculateBalanceUseCase = calculateBalanceUseCase;
+        this.calculateBalancesUseCase = calculateBalancesUseCase;
+        this.checkpointBalanceUseCase = checkpointBalanceUseCase;
+        this.exportEntriesUseCase = exportEntriesUseCase;
     }
 
     @GetMapping("/{accountId}/balance")
-    @Operation(summary = "Get account balance", description = "Calculates account balance in real-time by summing all entries. No cached value is used.")
-    public ResponseEntity<BalanceResponse> getBalance(@PathVariable UUID accountId) {
+    @Operation(summary = "Get account balance", description = "Calculates account balance in real-time from entries. AGGREGATE (default) sums in the database from the latest checkpoint; VERIFY loads and sums every entry. No cached value is used. With asOf (ISO date-time), only entries recorded at or before that instant count, starting from the nearest checkpoint at or before it.")
+    public ResponseEntity<BalanceResponse> getBalance(
+            @PathVariable UUID accountId,
+            @RequestParam(defaultValue = "AGGREGATE") BalanceMode mode,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
 
-        var result = calculateBalanceUseCase.execute(accountId);
+        var result = asOf == null
+                ? calculateBalanceUseCase.execute(accountId, mode)
+                : calculateBalanceUseCase.executeAsOf(accountId, asOf, mode);
 
         BalanceResponse response = new BalanceResponse(
                 result.accountId(),
                 result.balance().getValue(),
                 result.entriesCount(),
-                result.calculatedAt());
+                result.calculatedAt(),
+                result.asOf());
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/balances")
+    @Operation(summary = "Get balances of many accounts", description = "Calculates the current balance of up to "
+            + CalculateBalancesUseCase.MAX_ACCOUNTS
+            + " accounts with one existence query and one grouped aggregate. Results are in request order; unknown accounts are reported as NOT_FOUND.")
+    public ResponseEntity<BalancesResponse> getBalances(@Valid @RequestBody BalancesRequest request) {
+
+        var balances = calculateBalancesUseCase.execute(request.accountIds());
+
+        return ResponseEntity.ok(toResponse(null, balances));
+    }
+
+    @PostMapping("/balances/as-of")
+    @Operation(summary = "Get point-in-time balances", description = "Calculates the balance of up to "
+            + CalculateBalancesUseCase.MAX_ACCOUNTS
+            + " accounts as of one instant, in one query. Results are in request order; unknown accounts are reported as NOT_FOUND.")
+    public ResponseEntity<BalancesResponse> getBalancesAsOf(@Valid @RequestBody BalancesAsOfRequest request) {
+
+        var balances = calculateBalancesUseCase.executeAsOf(request.accountIds(), request.asOf());
+
+        return ResponseEntity.ok(toResponse(request.asOf(), balances));
+    }
+
+    @PostMapping("/{accountId}/balance/checkpoints")
+    @Operation(summary = "Checkpoint account balance", description = "Appends a balance checkpoint covering every settled entry, so balance reads only sum the entries after it.")
+    public ResponseEntity<BalanceCheckpointResponse> createCheckpoint(@PathVariable UUID accountId) {
+
+        var result = checkpointBalanceUseCase.execute(accountId);
+        BalanceCheckpoint checkpoint = result.checkpoint();
+
+        BalanceCheckpointResponse response = checkpoint == null
+                ? new BalanceCheckpointResponse(accountId, null, null, 0, null, null, false)
+                : new BalanceCheckpointResponse(
+                        accountId,
+                        checkpoint.getId(),
+                        checkpoint.getRunningSum().getValue(),
+                        checkpoint.getEntryCount(),
+                        checkpoint.getLastEntryId(),
+                        checkpoint.getLastEntryCreatedAt(),
+                        result.created());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{accountId}/balance/checkpoints/audit")
+    @Operation(summary = "Audit latest balance checkpoint", description = "Recomputes every entry covered by the latest checkpoint and compares it with the stored running sum.")
+    public ResponseEntity<CheckpointAuditResponse> auditCheckpoint(@PathVariable UUID accountId) {
+
+        var result = checkpointBalanceUseCase.audit(accountId);
+        BalanceCheckpoint checkpoint = result.checkpoint();
+
+        CheckpointAuditResponse response = new CheckpointAuditResponse(
+                accountId,
+                checkpoint != null ? checkpoint.getId() : null,
+                checkpoint != null ? checkpoint.getRunningSum().getValue() : null,
+                checkpoint != null ? checkpoint.getEntryCount() : 0,
+                result.recomputedSum().getValue(),
+                result.recomputedCount(),
+                result.consistent());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{accountId}/entries/export")
+    @Operation(summary = "Export account entries", description = "Streams the entry history of an account, oldest first, as NDJSON (default) or CSV. Optional from (inclusive) and to (exclusive) ISO date-times bound the export, so only the monthly partitions of that range are read. Memory use is constant regardless of history size.")
+    public ResponseEntity<StreamingResponseBody> exportEntries(
+            @PathVariable UUID accountId,
+            @RequestParam(defaultValue = "NDJSON") ExportEntriesUseCase.Format format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        var export = exportEntriesUseCase.prepare(accountId, format, from, to);
+
+        StreamingResponseBody body = export::writeTo;
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(export.getFileName())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    private static BalancesResponse toResponse(LocalDateTime asOf, List<AccountBalance> balances) {
+        List<BalancesResponse.Item> items = balances.stream()
+                .map(balance -> new BalancesResponse.Item(
+                        balance.accountId(),
+                        balance.found() ? "FOUND" : "NOT_FOUND",
+                        balance.found() ? balance.balance().getValue() : null,
+                        balance.entriesCount()))
+                .toList();
+
+        int notFound = (int) balances.stream().filter(balance -> !balance.found()).count();
+        return new BalancesResponse(asOf, LocalDateTime.now(), items.size(), notFound, items);
+    }
+}
@@ -1,7 +1,12 @@
 package com.ledgerservice.api.controllers;
 
+import com.ledgerservice.api.dtos.request.BatchCreateOperationRequest;
 import com.ledgerservice.api.dtos.request.CreateOperationRequest;
+import com.ledgerservice.api.dtos.response.BatchOperationResponse;
 import com.ledgerservice.api.dtos.response.OperationResponse;
+import com.ledgerservice.application.usecases.ProcessOperationBatchUseCase;
+import com.ledgerservice.application.usecases.ProcessOperationBatchUseCase.ItemResult;
+import com.ledgerservice.application.usecases.ProcessOperationBatchUseCase.ItemStatus;
 import com.ledgerservice.application.usecases.ProcessOperationUseCase;
 import com.ledgerservice.domain.enums.OperationType;
 import com.ledgerservice.domain.valueobjects.ExternalReference;
@@ -12,6 +17,10 @@ import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * REST Controller for operations
  */
@@ -21,36 +30,107 @@ import org.springframework.web.bind.annotation.*;
 public class OperationController {
 
     private final ProcessOperationUseCase processOperationUseCase;
+    private final ProcessOperationBatchUseCase processOperationBatchUseCase;
 
-    public OperationController(ProcessOperationUseCase processOperationUseCase) {
+    public OperationController(
+            ProcessOperationUseCase processOperationUseCase,
+            ProcessOperationBatchUseCase processOperationBatchUseCase) {
         this.processOperationUseCase = processOperationUseCase;
+        this.processOperationBatchUseCase = processOperationBatchUseCase;
     }
 
     @PostMapping
     @Operation(summary = "Create a new operation", description = "Creates a new financial operation (deposit, withdrawal, or transfer). Idempotent based on external reference.")
     public ResponseEntity<OperationResponse> createOperation(@Valid @RequestBody CreateOperationRequest request) {
 
-        var command = new ProcessOperationUseCase.ProcessOperationCommand(
+        var command = toCommand(request);
+
+        com.ledgerservice.domain.entities.Operation operation = processOperationUseCase.execute(command);
+
+        OperationResponse response = toResponse(operation);
+
+        // Return 200 OK for idempotent requests (already processed)
+        // In production, you might want to check if operation was just created
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Create operations in batch", description = "Creates up to " + ProcessOperationBatchUseCase.MAX_BATCH_SIZE
+            + " operations in a single transaction. Idempotent per external reference; each item reports CREATED, DUPLICATE or REJECTED.")
+    public ResponseEntity<BatchOperationResponse> createOperations(
+            @Valid @RequestBody BatchCreateOperationRequest request) {
+
+        List<CreateOperationRequest> requests = request.operations();
+        BatchOperationResponse.Item[] items = new BatchOperationResponse.Item[requests.size()];
+
+        // Items that cannot even form a command are rejected without reaching the
+        // use case; the others keep track of their position in the request
+        List<ProcessOperationUseCase.ProcessOperationCommand> commands = new ArrayList<>();
+        List<Integer> requestIndexes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                commands.add(toCommand(requests.get(i)));
+                requestIndexes.add(i);
+            } catch (IllegalArgumentException ex) {
+                items[i] = new BatchOperationResponse.Item(
+                        i,
+                        requests.get(i).externalReference(),
+                        ItemStatus.REJECTED.name(),
+                        null,
+                        ex.getMessage());
+            }
+        }
+
+        if (!commands.isEmpty()) {
+            var result = processOperationBatchUseCase.execute(commands);
+            for (ItemResult item : result.items()) {
+                int requestIndex = requestIndexes.get(item.index());
+                items[requestIndex] = new BatchOperationResponse.Item(
+                        requestIndex,
+                        item.externalReference().getValue(),
+                        item.status().name(),
+                        item.operation() != null ? toResponse(item.operation()) : null,
+                        item.error());
+            }
+        }
+
+        List<BatchOperationResponse.Item> itemList = Arrays.asList(items);
+
+        BatchOperationResponse response = new BatchOperationResponse(
+                itemList.size(),
+                count(itemList, ItemStatus.CREATED),
+                count(itemList, ItemStatus.DUPLICATE),
+                count(itemList, ItemStatus.REJECTED),
+                itemList);
+
+        return ResponseEntity.ok(response);
+    }
+
+    private ProcessOperationUseCase.ProcessOperationCommand toCommand(CreateOperationRequest request) {
+        return new ProcessOperationUseCase.ProcessOperationCommand(
                 ExternalReference.of(request.externalReference()),
                 mapOperationType(request.type()),
                 request.sourceAccountId(),
                 request.targetAccountId(),
                 Money.of(request.amount()),
                 request.source());
+    }
 
-        com.ledgerservice.domain.entities.Operation operation = processOperationUseCase.execute(command);
-
-        OperationResponse response = new OperationResponse(
+    private OperationResponse toResponse(com.ledgerservice.domain.entities.Operation operation) {
+        return new OperationResponse(
                 operation.getId(),
                 operation.getExternalReference().getValue(),
                 operation.getType().name(),
                 operation.getStatus().name(),
                 operation.getCreatedAt(),
                 operation.getProcessedAt());
+    }
 
-        // Return 200 OK for idempotent requests (already processed)
-        // In production, you might want to check if operation was just created
-        return ResponseEntity.ok(response);
+    private int count(List<BatchOperationResponse.Item> items, ItemStatus status) {
+        return (int) items.stream()
+                .filter(item -> status.name().equals(item.status()))
+                .count();
     }
 
     private OperationType mapOperationType(CreateOperationRequest.OperationTypeDto dto) {
@@ -60,4 +140,4 @@ public class OperationController {
             case TRANSFER -> OperationType.TRANSFER;
         };
     }
-}
\ No newline at end of file
+}
@@ -3,23 +3,26 @@ package com.ledgerservice.api.controllers;
 import com.ledgerservice.api.dtos.request.ReconciliationRequest;
 import com.ledgerservice.api.dtos.response.DivergenceAnalysisResponse;
 import com.ledgerservice.api.dtos.response.ReconciliationDashboardResponse;
+import com.ledgerservice.api.dtos.response.ReconciliationJobResponse;
 import com.ledgerservice.api.dtos.response.ReconciliationResponse;
+import com.ledgerservice.application.exceptions.InvalidRequestException;
+import com.ledgerservice.application.services.BalanceMode;
 import com.ledgerservice.application.usecases.AnalyzeDivergenceUseCase;
+import com.ledgerservice.application.usecases.BulkReconciliationUseCase;
+import com.ledgerservice.application.usecases.GetReconciliationDashboardUseCase;
 import com.ledgerservice.application.usecases.ReconcileAccountUseCase;
 import com.ledgerservice.domain.valueobjects.Money;
 import com.ledgerservice.infrastructure.persistence.entities.ReconciliationRecordJpaEntity;
-import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
 import com.ledgerservice.infrastructure.persistence.repositories.ReconciliationRecordJpaRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.math.BigDecimal;
-import java.util.Comparator;
+import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 
@@ -33,28 +36,33 @@ public class ReconciliationController {
 
         private final ReconcileAccountUseCase reconcileAccountUseCase;
         private final AnalyzeDivergenceUseCase analyzeDivergenceUseCase;
+        private final GetReconciliationDashboardUseCase getReconciliationDashboardUseCase;
+        private final BulkReconciliationUseCase bulkReconciliationUseCase;
         private final ReconciliationRecordJpaRepository reconciliationRepository;
-        private final AccountJpaRepository accountRepository;
 
         public ReconciliationController(
                         ReconcileAccountUseCase reconcileAccountUseCase,
                         AnalyzeDivergenceUseCase analyzeDivergenceUseCase,
-                        ReconciliationRecordJpaRepository reconciliationRepository,
-                        AccountJpaRepository accountRepository) {
+                        GetReconciliationDashboardUseCase getReconciliationDashboardUseCase,
+                        BulkReconciliationUseCase bulkReconciliationUseCase,
+                        ReconciliationRecordJpaRepository reconciliationRepository) {
                 this.reconcileAccountUseCase = reconcileAccountUseCase;
                 this.analyzeDivergenceUseCase = analyzeDivergenceUseCase;
+                this.getReconciliationDashboardUseCase = getReconciliationDashboardUseCase;
+                this.bulkReconciliationUseCase = bulkReconciliationUseCase;
                 this.reconciliationRepository = reconciliationRepository;
-                this.accountRepository = accountRepository;
         }
 
         @PostMapping
-        @Operation(summary = "Reconcile account", description = "Compares expected balance with calculated balance. Detects divergences but does not auto-correct.")
+        @Operation(summary = "Reconcile account", description = "Compares expected balance with calculated balance. Detects divergences but does not auto-correct. Use mode=VERIFY to recompute from every entry.")
         public ResponseEntity<ReconciliationResponse> reconcileAccount(
-                        @Valid @RequestBody ReconciliationRequest request) {
+                        @Valid @RequestBody ReconciliationRequest request,
+                        @RequestParam(defaultValue = "AGGREGATE") BalanceMode mode) {
 
                 var result = reconcileAccountUseCase.execute(
                                 request.accountId(),
-                                Money.of(request.expectedBalance()));
+                                Money.of(request.expectedBalance()),
+                                mode);
 
                 ReconciliationResponse response = new ReconciliationResponse(
                                 result.accountId(),
@@ -68,6 +76,33 @@ public class ReconciliationController {
                 return ResponseEntity.ok(response);
         }
 
+        @PostMapping(value = "/jobs", consumes = { "text/csv", "application/x-ndjson" })
+        @Operation(summary = "Start bulk reconciliation", description = "Reconciles every row of a statement file (CSV account_id,expected_balance or NDJSON {accountId, expectedBalance}) in the background. Poll the returned job for progress.")
+        public ResponseEntity<ReconciliationJobResponse> startBulkReconciliation(
+                        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                        InputStream statement) {
+
+                BulkReconciliationUseCase.Format format = BulkReconciliationUseCase.Format
+                                .fromContentType(contentType)
+                                .orElseThrow(() -> new InvalidRequestException(
+                                                "Unsupported statement format: " + contentType));
+
+                var progress = bulkReconciliationUseCase.submit(statement, format);
+
+                return ResponseEntity.accepted()
+                                .location(URI.create("/api/v1/reconciliation/jobs/" + progress.jobId()))
+                                .body(toResponse(progress));
+        }
+
+        @GetMapping("/jobs/{jobId}")
+        @Operation(summary = "Get bulk reconciliation progress", description = "Returns the progress of a bulk reconciliation job. Finished jobs are kept for a limited time.")
+        public ResponseEntity<ReconciliationJobResponse> getBulkReconciliation(@PathVariable UUID jobId) {
+
+                return bulkReconciliationUseCase.find(jobId)
+                                .map(progress -> ResponseEntity.ok(toResponse(progress)))
+                                .orElseGet(() -> ResponseEntity.notFound().build());
+        }
+
         @GetMapping("/{accountId}")
         @Operation(summary = "Get reconciliation history", description = "Returns all reconciliation records for an account, ordered by date descending")
         public ResponseEntity<List<ReconciliationResponse>> getReconciliationHistory(@PathVariable UUID accountId) {
@@ -93,53 +128,37 @@ public class ReconciliationController {
         @Operation(summary = "Reconciliation dashboard", description = "Returns statistics and recent reconciliations across all accounts")
         public ResponseEntity<ReconciliationDashboardResponse> getDashboard() {
 
-                long totalAccounts = accountRepository.count();
+                var result = getReconciliationDashboardUseCase.execute();
 
-                long accountsWithMismatch = reconciliationRepository
-                                .findAll()
+                List<ReconciliationDashboardResponse.ReconciliationSummary> recentSummaries = result
+                                .recentReconciliations()
                                 .stream()
-                                .filter(rec -> "MISMATCH".equals(rec.getStatus().name()))
-                                .map(ReconciliationRecordJpaEntity::getAccountId)
-                                .distinct()
-                                .count();
-
-                BigDecimal largestDifference = reconciliationRepository
-                                .findAll()
-                                .stream()
-                                .map(rec -> rec.getDifference().abs())
-                                .max(Comparator.naturalOrder())
-                                .orElse(BigDecimal.ZERO);
-
-                List<ReconciliationRecordJpaEntity> recentRecords = reconciliationRepository
-                                .findAll(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")))
-                                .getContent();
-
-                List<ReconciliationDashboardResponse.ReconciliationSummary> recentSummaries = recentRecords.stream()
                                 .map(rec -> new ReconciliationDashboardResponse.ReconciliationSummary(
                                                 rec.getAccountId(),
-                                                rec.getExpectedBalance(),
-                                                rec.getCalculatedBalance(),
-                                                rec.getDifference(),
+                                                rec.getExpectedBalance().getValue(),
+                                                rec.getCalculatedBalance().getValue(),
+                                                rec.getDifference().getValue(),
                                                 rec.getStatus().name(),
                                                 rec.getCreatedAt()))
                                 .toList();
 
                 ReconciliationDashboardResponse response = new ReconciliationDashboardResponse(
-                                totalAccounts,
-                                accountsWithMismatch,
-                                largestDifference,
+                                result.totalAccounts(),
+                                result.accountsWithMismatch(),
+                                result.largestDifference(),
                                 recentSummaries);
 
                 return ResponseEntity.ok(response);
         }
 
         @GetMapping("/divergence/{reconciliationId}")
-        @Operation(summary = "Analyze divergence", description = "Analyzes a specific reconciliation divergence, showing recent entries timeline")
+        @Operation(summary = "Analyze divergence", description = "Analyzes a specific reconciliation divergence, showing recent entries timeline. Pass the returned nextCursor as before to page back through older entries.")
         public ResponseEntity<DivergenceAnalysisResponse> analyzeDivergence(
                         @PathVariable UUID reconciliationId,
-                        @RequestParam(defaultValue = "20") int entryLimit) {
+                        @RequestParam(defaultValue = "20") int entryLimit,
+                        @RequestParam(required = false) String before) {
 
-                var result = analyzeDivergenceUseCase.execute(reconciliationId, entryLimit);
+                var result = analyzeDivergenceUseCase.execute(reconciliationId, entryLimit, before);
 
                 var entryDetails = result.recentEntries().stream()
                                 .map(entry -> new DivergenceAnalysisResponse.EntryDetail(
@@ -160,8 +179,23 @@ public class ReconciliationController {
                                 result.reconciliation().getReconciliationDate().atStartOfDay(), // Convert LocalDate to
                                                                                                 // LocalDateTime
                                 entryDetails,
-                                result.analysis());
+                                result.analysis(),
+                                result.nextCursor());
 
                 return ResponseEntity.ok(response);
         }
-}
\ No newline at end of file
+
+        private ReconciliationJobResponse toResponse(BulkReconciliationUseCase.JobProgress progress) {
+                return new ReconciliationJobResponse(
+                                progress.jobId(),
+                                progress.status().name(),
+                                progress.format().name(),
+                                progress.rowsRead(),
+                                progress.reconciled(),
+                                progress.mismatched(),
+                                progress.failed(),
+                                progress.errors(),
+                                progress.submittedAt(),
+                                progress.finishedAt());
+        }
+}
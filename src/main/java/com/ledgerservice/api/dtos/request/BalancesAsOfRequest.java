@@ -0,0 +1,20 @@
+package com.ledgerservice.api.dtos.request;
+
+import com.ledgerservice.application.usecases.CalculateBalancesUseCase;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for point-in-time balances of many accounts
+ */
+public record BalancesAsOfRequest(
+
+        @NotNull(message = "asOf is required") LocalDateTime asOf,
+
+        @NotEmpty(message = "At least one account is required") @Size(max = CalculateBalancesUseCase.MAX_ACCOUNTS, message = "Too many accounts in a single request") List<@NotNull UUID> accountIds) {
+}
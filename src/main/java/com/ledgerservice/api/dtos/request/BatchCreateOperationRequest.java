@@ -0,0 +1,16 @@
+package com.ledgerservice.api.dtos.request;
+
+import com.ledgerservice.application.usecases.ProcessOperationBatchUseCase;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request DTO for creating operations in batch
+ */
+public record BatchCreateOperationRequest(
+
+        @NotEmpty(message = "At least one operation is required") @Size(max = ProcessOperationBatchUseCase.MAX_BATCH_SIZE, message = "Too many operations in a single batch") List<@Valid CreateOperationRequest> operations) {
+}
@@ -0,0 +1,18 @@
+package com.ledgerservice.api.dtos.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO for balance checkpoint creation
+ */
+public record BalanceCheckpointResponse(
+        UUID accountId,
+        UUID checkpointId,
+        BigDecimal runningSum,
+        long entriesCount,
+        UUID lastEntryId,
+        LocalDateTime lastEntryCreatedAt,
+        boolean created) {
+}
@@ -6,10 +6,12 @@ import java.util.UUID;
 
 /**
  * Response DTO for balance calculation
+ * asOf is null for the current balance
  */
 public record BalanceResponse(
         UUID accountId,
         BigDecimal balance,
         long entriesCount,
-        LocalDateTime calculatedAt) {
-}
\ No newline at end of file
+        LocalDateTime calculatedAt,
+        LocalDateTime asOf) {
+}
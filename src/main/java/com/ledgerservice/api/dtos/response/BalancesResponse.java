@@ -0,0 +1,24 @@
+package com.ledgerservice.api.dtos.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for the balances of many accounts
+ * Items are returned in request order; asOf is null for current balances
+ */
+public record BalancesResponse(
+        LocalDateTime asOf,
+        LocalDateTime calculatedAt,
+        int total,
+        int notFound,
+        List<Item> items) {
+    public record Item(
+            UUID accountId,
+            String status,
+            BigDecimal balance,
+            long entriesCount) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.ledgerservice.api.dtos.response;
+
+import java.util.List;
+
+/**
+ * Response DTO for batch operation creation
+ * Items are returned in request order
+ */
+public record BatchOperationResponse(
+        int total,
+        int created,
+        int duplicates,
+        int rejected,
+        List<Item> items) {
+    public record Item(
+            int index,
+            String externalReference,
+            String status,
+            OperationResponse operation,
+            String error) {
+    }
+}
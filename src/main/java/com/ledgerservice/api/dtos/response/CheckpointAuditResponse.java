@@ -0,0 +1,17 @@
+package com.ledgerservice.api.dtos.response;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Response DTO for balance checkpoint audit (checkpoint vs full recompute)
+ */
+public record CheckpointAuditResponse(
+        UUID accountId,
+        UUID checkpointId,
+        BigDecimal checkpointSum,
+        long checkpointEntriesCount,
+        BigDecimal recomputedSum,
+        long recomputedEntriesCount,
+        boolean consistent) {
+}
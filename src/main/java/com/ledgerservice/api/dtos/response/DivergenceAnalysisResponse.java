@@ -15,7 +15,8 @@ public record DivergenceAnalysisResponse(
         BigDecimal difference,
         LocalDateTime reconciliationDate,
         List<EntryDetail> recentEntries,
-        String analysis) {
+        String analysis,
+        String nextCursor) {
     public record EntryDetail(
             UUID entryId,
             UUID operationId,
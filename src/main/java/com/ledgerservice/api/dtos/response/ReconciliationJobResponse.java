@@ -0,0 +1,23 @@
+package com.ledgerservice.api.dtos.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for a bulk reconciliation job
+ * failed counts malformed rows and unknown accounts; errors lists the first
+ * ones only
+ */
+public record ReconciliationJobResponse(
+        UUID jobId,
+        String status,
+        String format,
+        long rowsRead,
+        long reconciled,
+        long mismatched,
+        long failed,
+        List<String> errors,
+        LocalDateTime submittedAt,
+        LocalDateTime finishedAt) {
+}
@@ -1,13 +1,16 @@
 package com.ledgerservice.api.exceptions;
 
+import com.ledgerservice.application.exceptions.InvalidRequestException;
 import com.ledgerservice.domain.exceptions.AccountNotFoundException;
 import com.ledgerservice.domain.exceptions.DomainException;
+import com.ledgerservice.domain.exceptions.InsufficientFundsException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -41,6 +44,34 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    /**
+     * Handle malformed path variables and request parameters
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Invalid request parameter",
+                Map.of(ex.getName(), String.valueOf(ex.getValue())),
+                LocalDateTime.now());
+
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    /**
+     * Handle request values rejected by a use case (e.g. an empty export range)
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(InvalidRequestException ex) {
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                ex.getMessage(),
+                null,
+                LocalDateTime.now());
+
+        return ResponseEntity.badRequest().body(response);
+    }
+
     /**
      * Handle account not found
      */
@@ -55,6 +86,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    /**
+     * Handle rejected debits on overdraft-protected accounts
+     */
+    @ExceptionHandler(InsufficientFundsException.class)
+    public ResponseEntity<ErrorResponse> handleInsufficientFunds(InsufficientFundsException ex) {
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.UNPROCESSABLE_CONTENT.value(),
+                ex.getMessage(),
+                Map.of("accountId", ex.getAccountId().toString()),
+                LocalDateTime.now());
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_CONTENT).body(response);
+    }
+
     /**
      * Handle domain exceptions
      */
@@ -0,0 +1,13 @@
+package com.ledgerservice.application.exceptions;
+
+/**
+ * Thrown when a use case rejects a request value (e.g. an empty export range)
+ * Returned to API clients as 400; other IllegalArgumentExceptions remain
+ * internal errors
+ */
+public class InvalidRequestException extends IllegalArgumentException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
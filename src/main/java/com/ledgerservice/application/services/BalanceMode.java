@@ -0,0 +1,18 @@
+package com.ledgerservice.application.services;
+
+/**
+ * Strategy used to derive a balance from entries
+ */
+public enum BalanceMode {
+    /**
+     * SUM/COUNT computed by the database, starting from the latest balance
+     * checkpoint when one exists (default)
+     */
+    AGGREGATE,
+
+    /**
+     * Full scan: every entry is loaded and summed in the domain, ignoring
+     * checkpoints. Slow but independent from any derived data.
+     */
+    VERIFY
+}
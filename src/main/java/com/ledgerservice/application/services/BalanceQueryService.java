@@ -0,0 +1,205 @@
+package com.ledgerservice.application.services;
+
+import com.ledgerservice.domain.entities.BalanceCheckpoint;
+import com.ledgerservice.domain.entities.Entry;
+import com.ledgerservice.domain.services.BalanceCalculator;
+import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.infrastructure.observability.UseCaseMetrics;
+import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
+import com.ledgerservice.infrastructure.persistence.projections.EntryAggregate;
+import com.ledgerservice.infrastructure.persistence.repositories.BalanceAsOfRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.BalanceAsOfRepository.AsOfAggregate;
+import com.ledgerservice.infrastructure.persistence.repositories.BalanceCheckpointJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Derives account balances from entries
+ * 
+ * Shared by every use case that needs a balance, so they all agree on how it
+ * is computed. Balance is never read from a stored column: it is either
+ * aggregated by the database (checkpoint + SUM of the tail) or recomputed
+ * from every entry in VERIFY mode.
+ * 
+ * Point-in-time balances (as of an instant) follow the same modes: the nearest
+ * checkpoint at or before the instant plus the entries up to it, or every
+ * entry filtered in memory.
+ */
+@Service
+public class BalanceQueryService {
+
+    private static final String AS_OF_METRIC_MODE = "as_of";
+    private static final String GROUPED_METRIC_MODE = "grouped";
+
+    private final EntryJpaRepository entryRepository;
+    private final BalanceCheckpointJpaRepository checkpointRepository;
+    private final BalanceAsOfRepository balanceAsOfRepository;
+    private final BalanceCalculator balanceCalculator;
+    private final UseCaseMetrics useCaseMetrics;
+
+    public BalanceQueryService(
+            EntryJpaRepository entryRepository,
+            BalanceCheckpointJpaRepository checkpointRepository,
+            BalanceAsOfRepository balanceAsOfRepository,
+            BalanceCalculator balanceCalculator,
+            UseCaseMetrics useCaseMetrics) {
+        this.entryRepository = entryRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.balanceAsOfRepository = balanceAsOfRepository;
+        this.balanceCalculator = balanceCalculator;
+        this.useCaseMetrics = useCaseMetrics;
+    }
+
+    /**
+     * Calculates the current balance of an account
+     * Does not check that the account exists
+     * 
+     * Entries summed are reported as ledger.balance.rows_scanned (the tail
+     * after the checkpoint in AGGREGATE mode, every entry in VERIFY mode)
+     */
+    @Transactional(readOnly = true)
+    public BalanceSnapshot calculate(UUID accountId, BalanceMode mode) {
+        Objects.requireNonNull(accountId, "Account ID cannot be null");
+        Objects.requireNonNull(mode, "Balance mode cannot be null");
+
+        BalanceSnapshot snapshot = switch (mode) {
+            case AGGREGATE -> aggregate(accountId);
+            case VERIFY -> fullScan(accountId);
+        };
+        useCaseMetrics.rowsScanned(mode.name(), snapshot.rowsScanned());
+        return snapshot;
+    }
+
+    /**
+     * Calculates the current balances of many accounts with one grouped
+     * aggregate (SUM/COUNT ... GROUP BY account_id)
+     * Does not check that the accounts exist; every requested id gets a
+     * snapshot, zero for accounts without entries
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, BalanceSnapshot> calculateAll(Collection<UUID> accountIds) {
+        Objects.requireNonNull(accountIds, "Account IDs cannot be null");
+
+        Map<UUID, BalanceSnapshot> snapshots = new HashMap<>();
+        if (accountIds.isEmpty())
+            return snapshots;
+
+        for (var aggregate : entryRepository.aggregateByAccountIds(accountIds)) {
+            snapshots.put(aggregate.getAccountId(), toSnapshot(Money.zero(), 0, aggregate));
+        }
+        for (UUID accountId : accountIds) {
+            BalanceSnapshot snapshot = snapshots.computeIfAbsent(accountId,
+                    id -> new BalanceSnapshot(Money.zero(), 0, 0));
+            useCaseMetrics.rowsScanned(GROUPED_METRIC_MODE, snapshot.rowsScanned());
+        }
+        return snapshots;
+    }
+
+    /**
+     * Calculates the balance of an account as of an instant (entries recorded
+     * at or before it)
+     * Does not check that the account exists
+     */
+    @Transactional(readOnly = true)
+    public BalanceSnapshot calculateAsOf(UUID accountId, LocalDateTime asOf, BalanceMode mode) {
+        Objects.requireNonNull(accountId, "Account ID cannot be null");
+        Objects.requireNonNull(asOf, "As-of instant cannot be null");
+        Objects.requireNonNull(mode, "Balance mode cannot be null");
+
+        BalanceSnapshot snapshot = switch (mode) {
+            case AGGREGATE -> calculateAsOf(List.of(accountId), asOf).get(accountId);
+            case VERIFY -> fullScanAsOf(accountId, asOf);
+        };
+        if (mode == BalanceMode.VERIFY)
+            useCaseMetrics.rowsScanned(AS_OF_METRIC_MODE, snapshot.rowsScanned());
+        return snapshot;
+    }
+
+    /**
+     * Calculates the balances of many accounts as of an instant, in one query
+     * Does not check that the accounts exist (unknown ones get a zero balance)
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, BalanceSnapshot> calculateAsOf(Collection<UUID> accountIds, LocalDateTime asOf) {
+        Objects.requireNonNull(accountIds, "Account IDs cannot be null");
+        Objects.requireNonNull(asOf, "As-of instant cannot be null");
+
+        Map<UUID, BalanceSnapshot> snapshots = new HashMap<>();
+        balanceAsOfRepository.aggregateAsOf(accountIds, asOf).forEach((accountId, aggregate) -> {
+            snapshots.put(accountId, toSnapshot(aggregate));
+            useCaseMetrics.rowsScanned(AS_OF_METRIC_MODE, aggregate.scanned());
+        });
+        return snapshots;
+    }
+
+    private BalanceSnapshot aggregate(UUID accountId) {
+        Optional<BalanceCheckpoint> checkpoint = checkpointRepository
+                .findFirstByAccountIdOrderByLastEntryCreatedAtDescEntryCountDesc(accountId)
+                .map(EntityMapper::toDomain);
+
+        if (checkpoint.isEmpty())
+            return toSnapshot(Money.zero(), 0, entryRepository.aggregateByAccountId(accountId));
+
+        BalanceCheckpoint cp = checkpoint.get();
+        EntryAggregate tail = entryRepository.aggregateAfter(
+                accountId,
+                cp.getLastEntryCreatedAt(),
+                cp.getLastEntryId());
+
+        return toSnapshot(cp.getRunningSum(), cp.getEntryCount(), tail);
+    }
+
+    private BalanceSnapshot fullScan(UUID accountId) {
+        List<Entry> entries = entryRepository.findByAccountIdOrderByCreatedAtAsc(accountId).stream()
+                .map(EntityMapper::toDomain)
+                .toList();
+
+        return new BalanceSnapshot(
+                balanceCalculator.calculateBalance(entries),
+                balanceCalculator.countEntries(entries),
+                entries.size());
+    }
+
+    private BalanceSnapshot fullScanAsOf(UUID accountId, LocalDateTime asOf) {
+        List<Entry> entries = entryRepository.findByAccountIdOrderByCreatedAtAsc(accountId).stream()
+                .map(EntityMapper::toDomain)
+                .toList();
+
+        long covered = entries.stream().filter(entry -> !entry.getCreatedAt().isAfter(asOf)).count();
+        return new BalanceSnapshot(
+                balanceCalculator.calculateBalanceUpTo(entries, asOf),
+                covered,
+                entries.size());
+    }
+
+    private static BalanceSnapshot toSnapshot(AsOfAggregate aggregate) {
+        return new BalanceSnapshot(Money.of(aggregate.total()), aggregate.count(), aggregate.scanned());
+    }
+
+    private BalanceSnapshot toSnapshot(Money openingBalance, long openingCount, EntryAggregate aggregate) {
+        return new BalanceSnapshot(
+                openingBalance.add(Money.of(aggregate.getTotal())),
+                openingCount + aggregate.getCount(),
+                aggregate.getCount());
+    }
+
+    /**
+     * Balance derived from entries, the number of entries it covers and the
+     * number of entries actually summed to get it
+     */
+    public record BalanceSnapshot(
+            Money balance,
+            long entriesCount,
+            long rowsScanned) {
+    }
+}
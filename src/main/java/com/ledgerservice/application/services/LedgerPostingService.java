@@ -0,0 +1,173 @@
+package com.ledgerservice.application.services;
+
+import com.ledgerservice.domain.entities.Entry;
+import com.ledgerservice.domain.entities.Operation;
+import com.ledgerservice.domain.services.HotAccountPolicy;
+import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
+import com.ledgerservice.infrastructure.persistence.repositories.AccountBalanceRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.AccountBalanceRepository.Delta;
+import com.ledgerservice.infrastructure.persistence.repositories.BatchInsertRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.OutboxRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.OutboxRepository.NewEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes operations and their entries to the ledger
+ * 
+ * GUARANTEES:
+ * - Runs inside the caller's transaction (never opens its own)
+ * - Operations are inserted before entries (entries reference operations)
+ * - Rows are persisted directly and flushed once, so N operations cost
+ * batched INSERTs instead of one SELECT + INSERT round trip per row
+ * - Running balances (account_balances) move with the entries, in the same
+ * transaction, one batched upsert per call; hot accounts (HotAccountPolicy)
+ * are added to one random shard of their balance
+ * - One operation.processed event per operation is appended to the outbox
+ * (outbox_events) in the same transaction, one batched INSERT per call
+ */
+@Service
+public class LedgerPostingService {
+
+    public static final String OPERATION_PROCESSED = "operation.processed";
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private final BatchInsertRepository batchInsertRepository;
+    private final AccountBalanceRepository accountBalanceRepository;
+    private final OutboxRepository outboxRepository;
+    private final HotAccountPolicy hotAccountPolicy;
+
+    public LedgerPostingService(
+            BatchInsertRepository batchInsertRepository,
+            AccountBalanceRepository accountBalanceRepository,
+            OutboxRepository outboxRepository,
+            HotAccountPolicy hotAccountPolicy) {
+        this.batchInsertRepository = batchInsertRepository;
+        this.accountBalanceRepository = accountBalanceRepository;
+        this.outboxRepository = outboxRepository;
+        this.hotAccountPolicy = hotAccountPolicy;
+    }
+
+    /**
+     * @param shardedAccounts hot accounts among the postings (see
+     *                        HotAccountPolicy.shardedAccounts)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void post(List<Posting> postings, Set<UUID> shardedAccounts) {
+        Objects.requireNonNull(postings, "Postings cannot be null");
+        if (postings.isEmpty())
+            return;
+
+        batchInsertRepository.persistAll(postings.stream()
+                .map(posting -> EntityMapper.toJpa(posting.operation()))
+                .toList());
+
+        batchInsertRepository.persistAll(postings.stream()
+                .flatMap(posting -> posting.entries().stream())
+                .map(EntityMapper::toJpa)
+                .toList());
+
+        batchInsertRepository.flush();
+
+        updateRunningBalances(postings.stream()
+                .flatMap(posting -> posting.entries().stream())
+                .toList(), shardedAccounts);
+
+        recordProcessed(postings);
+    }
+
+    /**
+     * Appends an operation.processed event per posting to the outbox
+     * Every path that processes operations must call this in the same
+     * transaction (post already does)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordProcessed(List<Posting> postings) {
+        outboxRepository.append(postings.stream()
+                .map(posting -> new NewEvent(
+                        posting.operation().getId(),
+                        OPERATION_PROCESSED,
+                        JSON.writeValueAsString(OperationProcessedEvent.of(posting))))
+                .toList());
+    }
+
+    /**
+     * Adds the entries to the running balance of their accounts
+     * Every path that inserts entries must call this in the same transaction
+     * 
+     * Sharded accounts get one shard per call, so a call still costs one row
+     * per account
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void updateRunningBalances(List<Entry> entries, Set<UUID> shardedAccounts) {
+        Objects.requireNonNull(shardedAccounts, "Sharded accounts cannot be null");
+
+        Map<UUID, Delta> deltas = new HashMap<>();
+        for (Entry entry : entries) {
+            UUID accountId = entry.getAccountId();
+            BigDecimal amount = entry.getAmount().getValue();
+            Delta current = deltas.get(accountId);
+            deltas.put(accountId, current == null
+                    ? new Delta(shardOf(accountId, shardedAccounts), amount, 1)
+                    : new Delta(current.shard(), current.amount().add(amount), current.entries() + 1));
+        }
+        accountBalanceRepository.apply(deltas);
+    }
+
+    private int shardOf(UUID accountId, Set<UUID> shardedAccounts) {
+        return shardedAccounts.contains(accountId) ? hotAccountPolicy.pickShard() : HotAccountPolicy.MAIN_SHARD;
+    }
+
+    /**
+     * An operation together with the entries it generates
+     */
+    public record Posting(
+            Operation operation,
+            List<Entry> entries) {
+        public Posting {
+            Objects.requireNonNull(operation, "Operation cannot be null");
+            Objects.requireNonNull(entries, "Entries cannot be null");
+        }
+    }
+
+    /**
+     * Payload of the operation.processed outbox event
+     */
+    public record OperationProcessedEvent(
+            UUID operationId,
+            String externalReference,
+            String type,
+            LocalDateTime processedAt,
+            List<EntryLine> entries) {
+
+        static OperationProcessedEvent of(Posting posting) {
+            Operation operation = posting.operation();
+            return new OperationProcessedEvent(
+                    operation.getId(),
+                    operation.getExternalReference().getValue(),
+                    operation.getType().name(),
+                    operation.getProcessedAt(),
+                    posting.entries().stream()
+                            .map(entry -> new EntryLine(
+                                    entry.getAccountId(),
+                                    entry.getAmount().getValue(),
+                                    entry.getDirection().name()))
+                            .toList());
+        }
+
+        public record EntryLine(UUID accountId, BigDecimal amount, String direction) {
+        }
+    }
+}
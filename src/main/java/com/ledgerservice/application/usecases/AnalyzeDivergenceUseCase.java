@@ -1,6 +1,8 @@
 package com.ledgerservice.application.usecases;
 
+import com.ledgerservice.application.exceptions.InvalidRequestException;
 import com.ledgerservice.domain.entities.ReconciliationRecord;
+import com.ledgerservice.infrastructure.observability.UseCaseMetrics;
 import com.ledgerservice.infrastructure.persistence.entities.EntryJpaEntity;
 import com.ledgerservice.infrastructure.persistence.entities.ReconciliationRecordJpaEntity;
 import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
@@ -8,24 +10,39 @@ import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaReposit
 import com.ledgerservice.infrastructure.persistence.repositories.ReconciliationRecordJpaRepository;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Use case for analyzing divergences in reconciliation
  * Helps identify where and when a discrepancy might have started
+ * 
+ * Entries are limited in the database and paged backwards with a keyset
+ * cursor (created_at and id of the oldest entry of the previous page), so a
+ * page costs the same on a 20-entry account and on a 5M-entry one. The cursor
+ * carries created_at so that resolving it only reads the monthly partition of
+ * that entry.
  */
 @Service
 public class AnalyzeDivergenceUseCase {
 
+        public static final int MAX_ENTRY_LIMIT = 500;
+
         private final ReconciliationRecordJpaRepository reconciliationRepository;
         private final EntryJpaRepository entryRepository;
+        private final UseCaseMetrics useCaseMetrics;
 
         public AnalyzeDivergenceUseCase(
                         ReconciliationRecordJpaRepository reconciliationRepository,
-                        EntryJpaRepository entryRepository) {
+                        EntryJpaRepository entryRepository,
+                        UseCaseMetrics useCaseMetrics) {
                 this.reconciliationRepository = reconciliationRepository;
                 this.entryRepository = entryRepository;
+                this.useCaseMetrics = useCaseMetrics;
         }
 
         /**
@@ -33,6 +50,23 @@ public class AnalyzeDivergenceUseCase {
          * and the recent entries for the account
          */
         public DivergenceAnalysisResult execute(UUID reconciliationId, int entryLimit) {
+                return execute(reconciliationId, entryLimit, null);
+        }
+
+        /**
+         * Same analysis, listing the entries recorded before the given cursor
+         * (a nextCursor of a previous result, null = most recent entries)
+         */
+        public DivergenceAnalysisResult execute(UUID reconciliationId, int entryLimit, String before) {
+                return useCaseMetrics.time("analyze_divergence",
+                                () -> analyze(reconciliationId, entryLimit, before));
+        }
+
+        private DivergenceAnalysisResult analyze(UUID reconciliationId, int entryLimit, String before) {
+                if (entryLimit < 1 || entryLimit > MAX_ENTRY_LIMIT)
+                        throw new InvalidRequestException(
+                                        String.format("Entry limit must be between 1 and %d", MAX_ENTRY_LIMIT));
+
                 ReconciliationRecordJpaEntity reconciliationJpa = reconciliationRepository.findById(reconciliationId)
                                 .orElseThrow(
                                                 () -> new IllegalArgumentException("Reconciliation record not found: "
@@ -40,18 +74,34 @@ public class AnalyzeDivergenceUseCase {
 
                 ReconciliationRecord reconciliation = EntityMapper.toDomain(reconciliationJpa);
 
-                List<EntryJpaEntity> recentEntriesJpa = entryRepository
-                                .findByAccountIdOrderByCreatedAtDesc(reconciliation.getAccountId())
-                                .stream()
-                                .limit(entryLimit)
-                                .toList();
+                List<EntryJpaEntity> recentEntriesJpa = findEntries(reconciliation.getAccountId(), entryLimit,
+                                before != null ? EntryCursor.decode(before) : null);
 
                 String analysis = generateAnalysis(reconciliation, recentEntriesJpa.size());
 
+                // A full page may have older entries behind it
+                String nextCursor = recentEntriesJpa.size() == entryLimit
+                                ? EntryCursor.of(recentEntriesJpa.get(recentEntriesJpa.size() - 1)).encode()
+                                : null;
+
                 return new DivergenceAnalysisResult(
                                 reconciliation,
                                 recentEntriesJpa,
-                                analysis);
+                                analysis,
+                                nextCursor);
+        }
+
+        private List<EntryJpaEntity> findEntries(UUID accountId, int entryLimit, EntryCursor cursor) {
+                if (cursor == null)
+                        return entryRepository.findLatest(accountId, entryLimit);
+
+                // created_at is part of the lookup, so only its partition is read
+                if (!entryRepository.existsByIdAndAccountIdAndCreatedAt(cursor.entryId(), accountId,
+                                cursor.createdAt()))
+                        throw new InvalidRequestException(
+                                        "Cursor entry not found for account: " + cursor.entryId());
+
+                return entryRepository.findLatestBefore(accountId, cursor.createdAt(), cursor.entryId(), entryLimit);
         }
 
         private String generateAnalysis(ReconciliationRecord reconciliation, int entryCount) {
@@ -75,6 +125,43 @@ public class AnalyzeDivergenceUseCase {
         public record DivergenceAnalysisResult(
                         ReconciliationRecord reconciliation,
                         List<EntryJpaEntity> recentEntries,
-                        String analysis) {
+                        String analysis,
+                        String nextCursor) {
+        }
+
+        /**
+         * Keyset position of an entry: (created_at, id)
+         * Exchanged with clients as an opaque URL-safe string
+         */
+        public record EntryCursor(LocalDateTime createdAt, UUID entryId) {
+
+                private static final String SEPARATOR = "|";
+
+                static EntryCursor of(EntryJpaEntity entry) {
+                        return new EntryCursor(entry.getCreatedAt(), entry.getId());
+                }
+
+                public String encode() {
+                        String raw = createdAt + SEPARATOR + entryId;
+                        return Base64.getUrlEncoder().withoutPadding()
+                                        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+                }
+
+                /**
+                 * @throws InvalidRequestException when the value is not a cursor
+                 */
+                public static EntryCursor decode(String value) {
+                        try {
+                                String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+                                int separator = raw.indexOf(SEPARATOR);
+                                if (separator < 0)
+                                        throw new InvalidRequestException("Invalid cursor: " + value);
+                                return new EntryCursor(
+                                                LocalDateTime.parse(raw.substring(0, separator)),
+                                                UUID.fromString(raw.substring(separator + 1)));
+                        } catch (IllegalArgumentException | DateTimeParseException ex) {
+                                throw new InvalidRequestException("Invalid cursor: " + value);
+                        }
+                }
         }
 }
\ No newline at end of file
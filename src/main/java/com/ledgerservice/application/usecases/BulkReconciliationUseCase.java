@@ -0,0 +1,464 @@
+package com.ledgerservice.application.usecases;
+
+import com.ledgerservice.domain.entities.ReconciliationRecord;
+import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.infrastructure.observability.StructuredLogger;
+import com.ledgerservice.infrastructure.observability.UseCaseMetrics;
+import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
+import com.ledgerservice.infrastructure.persistence.projections.AccountEntryAggregate;
+import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.BatchInsertRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.ReconciliationStatsRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case: Reconcile many accounts against a statement file
+ *
+ * Input is a CSV (account_id,expected_balance) or NDJSON
+ * ({"accountId":...,"expectedBalance":...}) statement. The upload is spooled
+ * to a temporary file and the job runs in the background; progress is read
+ * with find().
+ *
+ * Per chunk of rows (independent of how many accounts it holds):
+ * - 1 SELECT id ... WHERE id IN (...) on accounts
+ * - 1 SELECT SUM(amount) ... GROUP BY account_id on entries
+ * - batched INSERTs for the reconciliation records
+ * - 1 batched upsert of the per-account dashboard stats
+ *
+ * Chunks run on virtual threads; a semaphore shared by every job bounds how
+ * many run (and hold a connection) at the same time. Like single
+ * reconciliations, a job never corrects balances: unknown accounts and
+ * malformed rows are only counted as failed. Committed records are counted
+ * in ledger.reconciliation.results like single reconciliations.
+ */
+@Service
+public class BulkReconciliationUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkReconciliationUseCase.class);
+
+    private static final int MAX_REPORTED_ERRORS = 20;
+    private static final JsonMapper JSON = JsonMapper.builder()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+            .build();
+
+    private final AccountJpaRepository accountRepository;
+    private final EntryJpaRepository entryRepository;
+    private final BatchInsertRepository batchInsertRepository;
+    private final ReconciliationStatsRepository reconciliationStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StructuredLogger structuredLogger;
+    private final UseCaseMetrics useCaseMetrics;
+    private final int chunkSize;
+    private final Duration retention;
+    private final Semaphore workers;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<UUID, Job> jobs = new ConcurrentHashMap<>();
+
+    public BulkReconciliationUseCase(
+            AccountJpaRepository accountRepository,
+            EntryJpaRepository entryRepository,
+            BatchInsertRepository batchInsertRepository,
+            ReconciliationStatsRepository reconciliationStatsRepository,
+            TransactionTemplate transactionTemplate,
+            StructuredLogger structuredLogger,
+            UseCaseMetrics useCaseMetrics,
+            @Value("${ledger.reconciliation.bulk.chunk-size:1000}") int chunkSize,
+            @Value("${ledger.reconciliation.bulk.parallelism:4}") int parallelism,
+            @Value("${ledger.reconciliation.bulk.retention:24h}") Duration retention) {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("Chunk size must be positive");
+        if (parallelism <= 0)
+            throw new IllegalArgumentException("Parallelism must be positive");
+
+        this.accountRepository = accountRepository;
+        this.entryRepository = entryRepository;
+        this.batchInsertRepository = batchInsertRepository;
+        this.reconciliationStatsRepository = reconciliationStatsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.structuredLogger = structuredLogger;
+        this.useCaseMetrics = useCaseMetrics;
+        this.chunkSize = chunkSize;
+        this.retention = retention;
+        this.workers = new Semaphore(parallelism);
+    }
+
+    /**
+     * Spools the statement and starts the job
+     * Returns as soon as the upload is stored; rows are not validated yet
+     */
+    public JobProgress submit(InputStream statement, Format format) {
+        Objects.requireNonNull(statement, "Statement cannot be null");
+        Objects.requireNonNull(format, "Format cannot be null");
+
+        evictFinishedJobs();
+
+        Path file = spool(statement);
+        Job job = new Job(UUID.randomUUID(), format);
+        jobs.put(job.id, job);
+
+        executor.submit(() -> run(job, file));
+
+        log.info("Bulk reconciliation job {} submitted ({})", job.id, format);
+        return job.progress();
+    }
+
+    /**
+     * Current progress of a job (empty once evicted or when unknown)
+     */
+    public Optional<JobProgress> find(UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::progress);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(Job job, Path file) {
+        List<Future<?>> chunks = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<StatementLine> chunk = new ArrayList<>(chunkSize);
+            long lineNumber = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || job.format.isHeader(lineNumber, line))
+                    continue;
+
+                job.rowsRead.incrementAndGet();
+                try {
+                    chunk.add(job.format.parse(lineNumber, line));
+                } catch (IllegalArgumentException ex) {
+                    job.fail(1, "line " + lineNumber + ": " + ex.getMessage());
+                }
+
+                if (chunk.size() == chunkSize) {
+                    chunks.add(dispatch(job, chunk));
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty())
+                chunks.add(dispatch(job, chunk));
+
+            for (Future<?> pending : chunks)
+                pending.get();
+
+            job.finish(Status.COMPLETED);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            job.finish(Status.FAILED);
+        } catch (Exception ex) {
+            log.error("Bulk reconciliation job {} failed", job.id, ex);
+            job.error("job: " + ex.getMessage());
+            job.finish(Status.FAILED);
+        } finally {
+            deleteQuietly(file);
+        }
+
+        log.info("Bulk reconciliation job {} {}: {} rows, {} reconciled, {} mismatched, {} failed",
+                job.id, job.status, job.rowsRead.get(), job.reconciled.get(), job.mismatched.get(),
+                job.failed.get());
+    }
+
+    /**
+     * Waits for a free worker (back-pressure on the reader: at most
+     * parallelism chunks are held in memory) and reconciles the chunk on a
+     * virtual thread
+     */
+    private Future<?> dispatch(Job job, List<StatementLine> chunk) throws InterruptedException {
+        workers.acquire();
+        try {
+            return executor.submit(() -> {
+                try {
+                    reconcileChunk(job, chunk);
+                } catch (RuntimeException ex) {
+                    log.warn("Bulk reconciliation job {}: chunk of {} rows failed", job.id, chunk.size(), ex);
+                    job.fail(chunk.size(), "lines " + chunk.getFirst().lineNumber() + "-"
+                            + chunk.getLast().lineNumber() + ": " + ex.getMessage());
+                } finally {
+                    workers.release();
+                }
+            });
+        } catch (RuntimeException ex) {
+            workers.release();
+            throw ex;
+        }
+    }
+
+    private void reconcileChunk(Job job, List<StatementLine> chunk) {
+        Set<UUID> accountIds = chunk.stream()
+                .map(StatementLine::accountId)
+                .collect(Collectors.toSet());
+
+        ChunkResult result = transactionTemplate.execute(status -> {
+            Set<UUID> known = new HashSet<>(accountRepository.findExistingIds(accountIds));
+
+            Map<UUID, BigDecimal> balances = known.isEmpty()
+                    ? Map.of()
+                    : entryRepository.aggregateByAccountIds(known).stream()
+                            .collect(Collectors.toMap(
+                                    AccountEntryAggregate::getAccountId,
+                                    AccountEntryAggregate::getTotal));
+
+            List<ReconciliationRecord> reconciled = new ArrayList<>(chunk.size());
+            List<StatementLine> unknown = new ArrayList<>();
+            for (StatementLine line : chunk) {
+                if (!known.contains(line.accountId())) {
+                    unknown.add(line);
+                    continue;
+                }
+                Money calculated = Money.of(balances.getOrDefault(line.accountId(), BigDecimal.ZERO));
+                reconciled.add(ReconciliationRecord.create(line.accountId(), line.expectedBalance(), calculated));
+            }
+
+            batchInsertRepository.persistAll(reconciled.stream().map(EntityMapper::toJpa).toList());
+            batchInsertRepository.flush();
+            reconciliationStatsRepository.record(reconciled);
+            return new ChunkResult(reconciled, unknown);
+        });
+
+        for (StatementLine line : result.unknownAccounts())
+            job.fail(1, "line " + line.lineNumber() + ": Account not found: " + line.accountId());
+
+        // Counted once committed, alongside single reconciliations
+        for (ReconciliationRecord record : result.records()) {
+            useCaseMetrics.reconciliationRecorded(record.getStatus());
+            if (record.isMismatch()) {
+                structuredLogger.logReconciliationMismatch(
+                        record.getAccountId(),
+                        record.getExpectedBalance().getValue(),
+                        record.getCalculatedBalance().getValue(),
+                        record.getDifference().getValue());
+                job.mismatched.incrementAndGet();
+            }
+        }
+        job.reconciled.addAndGet(result.records().size());
+    }
+
+    private void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private static Path spool(InputStream statement) {
+        try {
+            Path file = Files.createTempFile("reconciliation-", ".statement");
+            Files.copy(statement, file, StandardCopyOption.REPLACE_EXISTING);
+            return file;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not store reconciliation statement", ex);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Could not delete reconciliation statement {}", file, ex);
+        }
+    }
+
+    /**
+     * Statement file formats
+     */
+    public enum Format {
+        CSV("text/csv") {
+            @Override
+            boolean isHeader(long lineNumber, String line) {
+                return lineNumber == 1 && line.strip().toLowerCase().startsWith("account_id");
+            }
+
+            @Override
+            StatementLine parse(long lineNumber, String line) {
+                String[] fields = line.split(",", -1);
+                if (fields.length != 2)
+                    throw new IllegalArgumentException("expected account_id,expected_balance");
+                return StatementLine.of(lineNumber, fields[0], fields[1]);
+            }
+        },
+        NDJSON("application/x-ndjson") {
+            @Override
+            StatementLine parse(long lineNumber, String line) {
+                JsonNode node;
+                try {
+                    node = JSON.readTree(line);
+                } catch (RuntimeException ex) {
+                    throw new IllegalArgumentException("malformed JSON");
+                }
+                return StatementLine.of(
+                        lineNumber,
+                        node.path("accountId").asString(),
+                        node.path("expectedBalance").asString());
+            }
+        };
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        /**
+         * Format whose content type matches (ignoring parameters such as charset)
+         */
+        public static Optional<Format> fromContentType(String contentType) {
+            if (contentType == null)
+                return Optional.empty();
+            String mediaType = contentType.split(";", 2)[0].strip();
+            for (Format format : values()) {
+                if (format.contentType.equalsIgnoreCase(mediaType))
+                    return Optional.of(format);
+            }
+            return Optional.empty();
+        }
+
+        boolean isHeader(long lineNumber, String line) {
+            return false;
+        }
+
+        abstract StatementLine parse(long lineNumber, String line);
+    }
+
+    /**
+     * Job lifecycle
+     */
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * Snapshot of a job
+     * failed counts malformed rows and unknown accounts; errors holds the
+     * first messages only
+     */
+    public record JobProgress(
+            UUID jobId,
+            Status status,
+            Format format,
+            long rowsRead,
+            long reconciled,
+            long mismatched,
+            long failed,
+            List<String> errors,
+            LocalDateTime submittedAt,
+            LocalDateTime finishedAt) {
+    }
+
+    /**
+     * One (account, expected balance) row of a statement
+     */
+    record StatementLine(
+            long lineNumber,
+            UUID accountId,
+            Money expectedBalance) {
+
+        static StatementLine of(long lineNumber, String accountId, String expectedBalance) {
+            return new StatementLine(
+                    lineNumber,
+                    parse(accountId.strip(), UUID::fromString, "invalid account_id"),
+                    parse(expectedBalance.strip(), value -> Money.of(new BigDecimal(value)), "invalid expected_balance"));
+        }
+
+        private static <T> T parse(String value, Function<String, T> parser, String message) {
+            try {
+                return parser.apply(value);
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException(message + " '" + value + "'");
+            }
+        }
+    }
+
+    private record ChunkResult(
+            List<ReconciliationRecord> records,
+            List<StatementLine> unknownAccounts) {
+    }
+
+    private static final class Job {
+
+        private final UUID id;
+        private final Format format;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong reconciled = new AtomicLong();
+        private final AtomicLong mismatched = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<String> errors = new ArrayList<>();
+        private volatile Status status = Status.RUNNING;
+        private volatile LocalDateTime finishedAt;
+
+        private Job(UUID id, Format format) {
+            this.id = id;
+            this.format = format;
+        }
+
+        void fail(long rows, String message) {
+            failed.addAndGet(rows);
+            error(message);
+        }
+
+        void error(String message) {
+            synchronized (errors) {
+                if (errors.size() < MAX_REPORTED_ERRORS)
+                    errors.add(message);
+            }
+        }
+
+        void finish(Status finalStatus) {
+            finishedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        JobProgress progress() {
+            List<String> reportedErrors;
+            synchronized (errors) {
+                reportedErrors = List.copyOf(errors);
+            }
+            return new JobProgress(id, status, format, rowsRead.get(), reconciled.get(), mismatched.get(),
+                    failed.get(), reportedErrors, submittedAt, finishedAt);
+        }
+    }
+}
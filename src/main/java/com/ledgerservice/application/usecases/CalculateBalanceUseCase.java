@@ -1,72 +1,106 @@
 package com.ledgerservice.application.usecases;
 
-import com.ledgerservice.domain.entities.Entry;
+import com.ledgerservice.application.exceptions.InvalidRequestException;
+import com.ledgerservice.application.services.BalanceMode;
+import com.ledgerservice.application.services.BalanceQueryService;
 import com.ledgerservice.domain.exceptions.AccountNotFoundException;
-import com.ledgerservice.domain.services.BalanceCalculator;
 import com.ledgerservice.domain.valueobjects.Money;
-import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
+import com.ledgerservice.infrastructure.observability.UseCaseMetrics;
 import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
-import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Use Case: Calculate account balance
  * 
  * GUARANTEES:
  * - Always recalculates from entries (no cached balance)
- * - Auditable (returns entries used in calculation)
- * - Read-only transaction
+ * - Default: SUM/COUNT aggregated by the database, starting from the latest
+ * balance checkpoint when one exists
+ * - VERIFY mode: full scan of every entry, independent from checkpoints
+ * - As of an instant: only entries recorded at or before it, from the
+ * nearest checkpoint at or before it (instants in the future are rejected)
+ * - Read-only transaction (timed as a whole by UseCaseMetrics)
  */
 @Service
 public class CalculateBalanceUseCase {
 
         private final AccountJpaRepository accountRepository;
-        private final EntryJpaRepository entryRepository;
-        private final BalanceCalculator balanceCalculator;
+        private final BalanceQueryService balanceQueryService;
+        private final UseCaseMetrics useCaseMetrics;
+        private final TransactionTemplate readOnlyTransaction;
 
         public CalculateBalanceUseCase(
                         AccountJpaRepository accountRepository,
-                        EntryJpaRepository entryRepository,
-                        BalanceCalculator balanceCalculator) {
+                        BalanceQueryService balanceQueryService,
+                        UseCaseMetrics useCaseMetrics,
+                        PlatformTransactionManager transactionManager) {
                 this.accountRepository = accountRepository;
-                this.entryRepository = entryRepository;
-                this.balanceCalculator = balanceCalculator;
+                this.balanceQueryService = balanceQueryService;
+                this.useCaseMetrics = useCaseMetrics;
+                this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+                this.readOnlyTransaction.setReadOnly(true);
         }
 
-        @Transactional(readOnly = true)
         public BalanceResult execute(UUID accountId) {
+                return execute(accountId, BalanceMode.AGGREGATE);
+        }
+
+        public BalanceResult execute(UUID accountId, BalanceMode mode) {
+                return useCaseMetrics.time("calculate_balance",
+                                () -> readOnlyTransaction.execute(status -> calculate(accountId, mode)));
+        }
+
+        public BalanceResult executeAsOf(UUID accountId, LocalDateTime asOf, BalanceMode mode) {
+                return useCaseMetrics.time("calculate_balance_as_of",
+                                () -> readOnlyTransaction.execute(status -> calculateAsOf(accountId, asOf, mode)));
+        }
+
+        private BalanceResult calculate(UUID accountId, BalanceMode mode) {
                 accountRepository.findById(accountId)
                                 .orElseThrow(() -> new AccountNotFoundException(accountId));
 
-                var entryJpaList = entryRepository.findByAccountIdOrderByCreatedAtAsc(accountId);
+                var snapshot = balanceQueryService.calculate(accountId, mode);
+
+                return new BalanceResult(
+                                accountId,
+                                snapshot.balance(),
+                                snapshot.entriesCount(),
+                                LocalDateTime.now(),
+                                null);
+        }
+
+        private BalanceResult calculateAsOf(UUID accountId, LocalDateTime asOf, BalanceMode mode) {
+                LocalDateTime now = LocalDateTime.now();
+                if (asOf.isAfter(now))
+                        throw new InvalidRequestException("Balance instant cannot be in the future");
 
-                List<Entry> entries = entryJpaList.stream()
-                                .map(EntityMapper::toDomain)
-                                .collect(Collectors.toList());
+                if (!accountRepository.existsById(accountId))
+                        throw new AccountNotFoundException(accountId);
 
-                Money balance = balanceCalculator.calculateBalance(entries);
-                long entryCount = balanceCalculator.countEntries(entries);
+                var snapshot = balanceQueryService.calculateAsOf(accountId, asOf, mode);
 
                 return new BalanceResult(
                                 accountId,
-                                balance,
-                                entryCount,
-                                LocalDateTime.now());
+                                snapshot.balance(),
+                                snapshot.entriesCount(),
+                                now,
+                                asOf);
         }
 
         /**
          * Result object containing balance calculation details
+         * asOf is null for the current balance
          */
         public record BalanceResult(
                         UUID accountId,
                         Money balance,
                         long entriesCount,
-                        LocalDateTime calculatedAt) {
+                        LocalDateTime calculatedAt,
+                        LocalDateTime asOf) {
         }
-}
\ No newline at end of file
+}
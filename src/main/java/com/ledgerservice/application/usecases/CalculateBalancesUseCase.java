@@ -0,0 +1,125 @@
+package com.ledgerservice.application.usecases;
+
+import com.ledgerservice.application.exceptions.InvalidRequestException;
+import com.ledgerservice.application.services.BalanceQueryService;
+import com.ledgerservice.application.services.BalanceQueryService.BalanceSnapshot;
+import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.infrastructure.observability.UseCaseMetrics;
+import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Use Case: Calculate the balances of many accounts at once
+ * 
+ * GUARANTEES:
+ * - Per-account outcome: unknown accounts are reported as not found, they
+ * never fail the whole request
+ * - Results in request order (repeated ids are answered each time)
+ * - Round trips independent of the number of accounts: 1 SELECT ... IN on
+ * accounts + 1 aggregate query for every balance
+ * - Read-only transaction: every balance is computed on the same snapshot
+ * 
+ * Current balances: SUM/COUNT of every entry, GROUP BY account_id. As of an
+ * instant: the same per-account strategy as a single point-in-time balance
+ * (nearest checkpoint at or before the instant + entries up to it).
+ */
+@Service
+public class CalculateBalancesUseCase {
+
+        public static final int MAX_ACCOUNTS = 1000;
+
+        private final AccountJpaRepository accountRepository;
+        private final BalanceQueryService balanceQueryService;
+        private final UseCaseMetrics useCaseMetrics;
+        private final TransactionTemplate readOnlyTransaction;
+
+        public CalculateBalancesUseCase(
+                        AccountJpaRepository accountRepository,
+                        BalanceQueryService balanceQueryService,
+                        UseCaseMetrics useCaseMetrics,
+                        PlatformTransactionManager transactionManager) {
+                this.accountRepository = accountRepository;
+                this.balanceQueryService = balanceQueryService;
+                this.useCaseMetrics = useCaseMetrics;
+                this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+                this.readOnlyTransaction.setReadOnly(true);
+        }
+
+        public List<AccountBalance> execute(List<UUID> accountIds) {
+                validate(accountIds);
+
+                return useCaseMetrics.time("calculate_balances",
+                                () -> readOnlyTransaction.execute(status -> {
+                                        Set<UUID> existing = new HashSet<>(
+                                                        accountRepository.findExistingIds(accountIds));
+                                        Map<UUID, BalanceSnapshot> snapshots = balanceQueryService
+                                                        .calculateAll(existing);
+                                        return inRequestOrder(accountIds, snapshots);
+                                }));
+        }
+
+        public List<AccountBalance> executeAsOf(List<UUID> accountIds, LocalDateTime asOf) {
+                validate(accountIds);
+                Objects.requireNonNull(asOf, "As-of instant cannot be null");
+                if (asOf.isAfter(LocalDateTime.now()))
+                        throw new InvalidRequestException("Balance instant cannot be in the future");
+
+                return useCaseMetrics.time("calculate_balances_as_of",
+                                () -> readOnlyTransaction.execute(status -> {
+                                        Set<UUID> existing = new HashSet<>(
+                                                        accountRepository.findExistingIds(accountIds));
+                                        Map<UUID, BalanceSnapshot> snapshots = balanceQueryService
+                                                        .calculateAsOf(existing, asOf);
+                                        return inRequestOrder(accountIds, snapshots);
+                                }));
+        }
+
+        private static void validate(List<UUID> accountIds) {
+                Objects.requireNonNull(accountIds, "Account IDs cannot be null");
+                if (accountIds.isEmpty())
+                        throw new InvalidRequestException("At least one account is required");
+                if (accountIds.size() > MAX_ACCOUNTS)
+                        throw new InvalidRequestException("Too many accounts in a single request");
+                if (accountIds.contains(null))
+                        throw new InvalidRequestException("Account IDs cannot be null");
+        }
+
+        private static List<AccountBalance> inRequestOrder(
+                        List<UUID> accountIds,
+                        Map<UUID, BalanceSnapshot> snapshots) {
+                return accountIds.stream()
+                                .map(accountId -> {
+                                        BalanceSnapshot snapshot = snapshots.get(accountId);
+                                        return snapshot == null
+                                                        ? AccountBalance.notFound(accountId)
+                                                        : new AccountBalance(accountId, true, snapshot.balance(),
+                                                                        snapshot.entriesCount());
+                                })
+                                .toList();
+        }
+
+        /**
+         * Balance of one requested account
+         * balance is null when the account does not exist
+         */
+        public record AccountBalance(
+                        UUID accountId,
+                        boolean found,
+                        Money balance,
+                        long entriesCount) {
+
+                static AccountBalance notFound(UUID accountId) {
+                        return new AccountBalance(accountId, false, null, 0);
+                }
+        }
+}
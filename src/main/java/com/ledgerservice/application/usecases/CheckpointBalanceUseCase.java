@@ -0,0 +1,158 @@
+package com.ledgerservice.application.usecases;
+
+import com.ledgerservice.domain.entities.BalanceCheckpoint;
+import com.ledgerservice.domain.exceptions.AccountNotFoundException;
+import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.infrastructure.persistence.entities.EntryJpaEntity;
+import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
+import com.ledgerservice.infrastructure.persistence.projections.EntryAggregate;
+import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.BalanceCheckpointJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Use Case: Checkpoint and audit account balances
+ * 
+ * GUARANTEES:
+ * - Append-only: a new checkpoint is written, previous ones are never touched
+ * - Only covers entries older than the settlement lag, so a transaction that
+ * commits late can never land behind an existing cursor
+ * - Auditable: any checkpoint can be compared with a full recompute
+ */
+@Service
+public class CheckpointBalanceUseCase {
+
+        private final AccountJpaRepository accountRepository;
+        private final EntryJpaRepository entryRepository;
+        private final BalanceCheckpointJpaRepository checkpointRepository;
+        private final Duration settlementLag;
+
+        public CheckpointBalanceUseCase(
+                        AccountJpaRepository accountRepository,
+                        EntryJpaRepository entryRepository,
+                        BalanceCheckpointJpaRepository checkpointRepository,
+                        @Value("${ledger.balance.checkpoint.settlement-lag:5m}") Duration settlementLag) {
+                this.accountRepository = accountRepository;
+                this.entryRepository = entryRepository;
+                this.checkpointRepository = checkpointRepository;
+                this.settlementLag = settlementLag;
+        }
+
+        /**
+         * Appends a checkpoint covering every settled entry of the account.
+         * Returns the latest existing checkpoint when there is nothing new to cover.
+         */
+        @Transactional
+        public CheckpointResult execute(UUID accountId) {
+                accountRepository.findById(accountId)
+                                .orElseThrow(() -> new AccountNotFoundException(accountId));
+
+                LocalDateTime horizon = LocalDateTime.now().minus(settlementLag);
+
+                Optional<BalanceCheckpoint> latest = findLatest(accountId);
+
+                // The cursor is resolved first and bounds the aggregate, so
+                // entries recorded in between are left to the next checkpoint
+                Optional<EntryJpaEntity> last = latest.isPresent()
+                                ? entryRepository.findLastAfterUpTo(
+                                                accountId,
+                                                latest.get().getLastEntryCreatedAt(),
+                                                latest.get().getLastEntryId(),
+                                                horizon)
+                                : entryRepository.findLastUpTo(accountId, horizon);
+
+                if (last.isEmpty())
+                        return new CheckpointResult(accountId, latest.orElse(null), false);
+
+                LocalDateTime cursorCreatedAt = last.get().getCreatedAt();
+                UUID cursorEntryId = last.get().getId();
+
+                BalanceCheckpoint checkpoint;
+                if (latest.isPresent()) {
+                        BalanceCheckpoint previous = latest.get();
+                        EntryAggregate tail = entryRepository.aggregateBetween(
+                                        accountId,
+                                        previous.getLastEntryCreatedAt(),
+                                        previous.getLastEntryId(),
+                                        cursorCreatedAt,
+                                        cursorEntryId);
+                        checkpoint = previous.advance(
+                                        Money.of(tail.getTotal()), tail.getCount(), cursorCreatedAt, cursorEntryId);
+                } else {
+                        EntryAggregate covered = entryRepository.aggregateUpToCursor(
+                                        accountId, cursorCreatedAt, cursorEntryId);
+                        checkpoint = BalanceCheckpoint.create(
+                                        accountId, Money.of(covered.getTotal()), covered.getCount(),
+                                        cursorCreatedAt, cursorEntryId);
+                }
+
+                checkpointRepository.save(EntityMapper.toJpa(checkpoint));
+
+                return new CheckpointResult(accountId, checkpoint, true);
+        }
+
+        /**
+         * Audits the latest checkpoint against a full recompute of the entries it
+         * claims to cover; the recompute is a SUM/COUNT in the database
+         */
+        @Transactional(readOnly = true)
+        public AuditResult audit(UUID accountId) {
+                accountRepository.findById(accountId)
+                                .orElseThrow(() -> new AccountNotFoundException(accountId));
+
+                Optional<BalanceCheckpoint> latest = findLatest(accountId);
+                if (latest.isEmpty())
+                        return new AuditResult(accountId, null, Money.zero(), 0, true);
+
+                BalanceCheckpoint checkpoint = latest.get();
+
+                EntryAggregate covered = entryRepository.aggregateUpToCursor(
+                                accountId,
+                                checkpoint.getLastEntryCreatedAt(),
+                                checkpoint.getLastEntryId());
+
+                Money recomputed = Money.of(covered.getTotal());
+                long recomputedCount = covered.getCount();
+
+                boolean consistent = recomputed.equals(checkpoint.getRunningSum())
+                                && recomputedCount == checkpoint.getEntryCount();
+
+                return new AuditResult(accountId, checkpoint, recomputed, recomputedCount, consistent);
+        }
+
+        private Optional<BalanceCheckpoint> findLatest(UUID accountId) {
+                return checkpointRepository
+                                .findFirstByAccountIdOrderByLastEntryCreatedAtDescEntryCountDesc(accountId)
+                                .map(EntityMapper::toDomain);
+        }
+
+        /**
+         * Result of a checkpoint attempt
+         * checkpoint is null when the account has no settled entries yet
+         */
+        public record CheckpointResult(
+                        UUID accountId,
+                        BalanceCheckpoint checkpoint,
+                        boolean created) {
+        }
+
+        /**
+         * Result of a checkpoint audit
+         * checkpoint is null when the account has never been checkpointed
+         */
+        public record AuditResult(
+                        UUID accountId,
+                        BalanceCheckpoint checkpoint,
+                        Money recomputedSum,
+                        long recomputedCount,
+                        boolean consistent) {
+        }
+}
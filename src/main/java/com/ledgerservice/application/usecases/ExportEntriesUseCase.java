@@ -0,0 +1,233 @@
+package com.ledgerservice.application.usecases;
+
+import com.ledgerservice.application.exceptions.InvalidRequestException;
+import com.ledgerservice.domain.exceptions.AccountNotFoundException;
+import com.ledgerservice.infrastructure.persistence.entities.EntryJpaEntity;
+import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Use Case: Export the entry history of an account, optionally bounded to
+ * [from, to)
+ * 
+ * Entries are read through a database cursor and written one by one to the
+ * output, so memory stays constant whatever the size of the history:
+ * - one read-only transaction for the whole export (consistent snapshot)
+ * - every entity is detached once written
+ * - output is buffered, never materialized
+ * - NDJSON rows go through one streaming Jackson generator
+ * 
+ * Rows are ordered by (created_at, id), oldest first. A bounded export only
+ * reads the monthly partitions of entries that overlap the range.
+ */
+@Service
+public class ExportEntriesUseCase {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    // Stand-ins for a missing bound of a partially bounded export, within
+    // the range of a Postgres timestamp
+    private static final LocalDateTime UNBOUNDED_FROM = LocalDateTime.of(1, 1, 1, 0, 0);
+    private static final LocalDateTime UNBOUNDED_TO = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final String CSV_HEADER = "id,operation_id,account_id,amount,direction,entry_type,source,created_at\n";
+    // Rows are separated by the newline written after each one, and the
+    // response stream is closed by the container, not by the generator
+    private static final ObjectWriter NDJSON = JsonMapper.builder()
+            .enable(StreamWriteFeature.WRITE_BIGDECIMAL_AS_PLAIN)
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build()
+            .writer()
+            .withRootValueSeparator("");
+
+    private final AccountJpaRepository accountRepository;
+    private final EntryJpaRepository entryRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExportEntriesUseCase(
+            AccountJpaRepository accountRepository,
+            EntryJpaRepository entryRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager) {
+        this.accountRepository = accountRepository;
+        this.entryRepository = entryRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Validates the account and range up front, so a bad request fails before
+     * any byte of the response is written
+     *
+     * @param from first instant included, null for the start of the history
+     * @param to   first instant excluded, null for no upper bound
+     */
+    public EntryExport prepare(UUID accountId, Format format, LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to))
+            throw new InvalidRequestException("Export range start must be before its end");
+        if (!accountRepository.existsById(accountId))
+            throw new AccountNotFoundException(accountId);
+        return new EntryExport(accountId, format, from, to);
+    }
+
+    private long write(EntryExport export, OutputStream outputStream) {
+        Format format = export.format;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+
+        Long written = readOnlyTransaction.execute(status -> {
+            long rows = 0;
+            try (var entries = stream(export);
+                    JsonGenerator json = format == Format.NDJSON ? ndjsonGenerator(writer) : null) {
+                if (format == Format.CSV)
+                    writer.write(CSV_HEADER);
+
+                for (var iterator = entries.iterator(); iterator.hasNext();) {
+                    EntryJpaEntity entry = iterator.next();
+                    if (json != null)
+                        writeJson(json, entry);
+                    else
+                        writer.write(toCsv(entry));
+                    entityManager.detach(entry);
+                    rows++;
+                }
+                if (json != null)
+                    json.flush();
+                writer.flush();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return rows;
+        });
+
+        return written != null ? written : 0;
+    }
+
+    private Stream<EntryJpaEntity> stream(EntryExport export) {
+        if (export.from == null && export.to == null)
+            return entryRepository.streamByAccountId(export.accountId);
+        return entryRepository.streamByAccountIdBetween(
+                export.accountId,
+                export.from != null ? export.from : UNBOUNDED_FROM,
+                export.to != null ? export.to : UNBOUNDED_TO);
+    }
+
+    static String toCsv(EntryJpaEntity entry) {
+        return entry.getId() + ","
+                + entry.getOperationId() + ","
+                + entry.getAccountId() + ","
+                + entry.getAmount().toPlainString() + ","
+                + entry.getDirection().name() + ","
+                + csvField(entry.getEntryType()) + ","
+                + csvField(entry.getSource()) + ","
+                + entry.getCreatedAt() + "\n";
+    }
+
+    static JsonGenerator ndjsonGenerator(Writer writer) {
+        return NDJSON.createGenerator(writer);
+    }
+
+    static void writeJson(JsonGenerator json, EntryJpaEntity entry) {
+        json.writeStartObject();
+        json.writeStringProperty("id", entry.getId().toString());
+        json.writeStringProperty("operationId", entry.getOperationId().toString());
+        json.writeStringProperty("accountId", entry.getAccountId().toString());
+        json.writeNumberProperty("amount", entry.getAmount());
+        json.writeStringProperty("direction", entry.getDirection().name());
+        json.writeStringProperty("entryType", entry.getEntryType());
+        json.writeStringProperty("source", entry.getSource());
+        json.writeStringProperty("createdAt", entry.getCreatedAt().toString());
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+            return value;
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Output format of the export
+     */
+    public enum Format {
+        /**
+         * One JSON object per line (application/x-ndjson)
+         */
+        NDJSON("application/x-ndjson", "ndjson"),
+
+        /**
+         * RFC 4180 CSV with a header row (text/csv)
+         */
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * Export of a validated account, written when the response body is
+     */
+    public final class EntryExport {
+
+        private final UUID accountId;
+        private final Format format;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+
+        private EntryExport(UUID accountId, Format format, LocalDateTime from, LocalDateTime to) {
+            this.accountId = accountId;
+            this.format = format;
+            this.from = from;
+            this.to = to;
+        }
+
+        public Format getFormat() {
+            return format;
+        }
+
+        public String getFileName() {
+            return "entries-" + accountId + "." + format.getExtension();
+        }
+
+        /**
+         * Streams every entry of the range to the output and returns the
+         * number of rows
+         */
+        public long writeTo(OutputStream outputStream) {
+            return write(this, outputStream);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.ledgerservice.application.usecases;
+
+import com.ledgerservice.domain.entities.ReconciliationRecord;
+import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
+import com.ledgerservice.infrastructure.persistence.repositories.ReconciliationRecordJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.ReconciliationStatsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Use case for the reconciliation dashboard
+ * 
+ * Two round trips whatever the size of the reconciliation history:
+ * - totals aggregated over reconciliation_account_stats (one row per account)
+ * - the 10 most recent records through idx_reconciliation_created_at
+ */
+@Service
+public class GetReconciliationDashboardUseCase {
+
+        private final ReconciliationStatsRepository reconciliationStatsRepository;
+        private final ReconciliationRecordJpaRepository reconciliationRepository;
+
+        public GetReconciliationDashboardUseCase(
+                        ReconciliationStatsRepository reconciliationStatsRepository,
+                        ReconciliationRecordJpaRepository reconciliationRepository) {
+                this.reconciliationStatsRepository = reconciliationStatsRepository;
+                this.reconciliationRepository = reconciliationRepository;
+        }
+
+        @Transactional(readOnly = true)
+        public DashboardResult execute() {
+                var summary = reconciliationStatsRepository.summarize();
+
+                List<ReconciliationRecord> recent = reconciliationRepository.findTop10ByOrderByCreatedAtDesc()
+                                .stream()
+                                .map(EntityMapper::toDomain)
+                                .toList();
+
+                return new DashboardResult(
+                                summary.totalAccounts(),
+                                summary.accountsWithMismatch(),
+                                summary.largestDifference(),
+                                recent);
+        }
+
+        /**
+         * Result object for the dashboard
+         */
+        public record DashboardResult(
+                        long totalAccounts,
+                        long accountsWithMismatch,
+                        BigDecimal largestDifference,
+                        List<ReconciliationRecord> recentReconciliations) {
+        }
+}
@@ -0,0 +1,216 @@
+package com.ledgerservice.application.usecases;
+
+import com.ledgerservice.application.usecases.ProcessOperationBatchUseCase.BatchResult;
+import com.ledgerservice.application.usecases.ProcessOperationBatchUseCase.ItemResult;
+import com.ledgerservice.application.usecases.ProcessOperationBatchUseCase.ItemStatus;
+import com.ledgerservice.application.usecases.ProcessOperationUseCase.ProcessOperationCommand;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group commit for single operations (opt-in, ledger.operations.group-commit)
+ *
+ * Every operation written on its own pays one transaction and one COMMIT
+ * flush. With group commit, callers queue their command and wait; writer
+ * threads drain the queue into groups (up to max-batch-size commands, or
+ * whatever arrived within max-delay of the first one) and write each group
+ * through ProcessOperationBatchUseCase, in one transaction with batched
+ * INSERTs.
+ *
+ * GUARANTEES:
+ * - A caller's result is only handed back after the group committed
+ * - Idempotency is the batch's: references repeated inside a group resolve
+ * in memory to the first one, and a unique index conflict with a concurrent
+ * writer re-resolves the group, so the conflicting item comes back as a
+ * duplicate
+ * - Never worse than without group commit: submit returns empty when the
+ * queue is full, when the whole group failed or when the item was rejected,
+ * and the caller then writes the operation on its own (raising the exact
+ * domain exception of a rejected item)
+ *
+ * Metrics: ledger.group_commit.batch.size, ledger.group_commit.fallbacks
+ * and ledger.group_commit.queue
+ */
+@Component
+public class OperationGroupCommit {
+
+    private static final Logger log = LoggerFactory.getLogger(OperationGroupCommit.class);
+
+    private static final long IDLE_POLL_MILLIS = 100;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final ProcessOperationBatchUseCase processOperationBatchUseCase;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<Pending> queue;
+    private final List<Thread> writers = new ArrayList<>();
+    private final DistributionSummary batchSize;
+    private final Counter fallbacks;
+    private volatile boolean running = true;
+
+    public OperationGroupCommit(
+            ProcessOperationBatchUseCase processOperationBatchUseCase,
+            MeterRegistry meterRegistry,
+            @Value("${ledger.operations.group-commit.enabled:false}") boolean enabled,
+            @Value("${ledger.operations.group-commit.max-batch-size:100}") int maxBatchSize,
+            @Value("${ledger.operations.group-commit.max-delay:2ms}") Duration maxDelay,
+            @Value("${ledger.operations.group-commit.queue-capacity:10000}") int queueCapacity,
+            @Value("${ledger.operations.group-commit.writers:2}") int writerCount) {
+        if (maxBatchSize <= 0 || maxBatchSize > ProcessOperationBatchUseCase.MAX_BATCH_SIZE)
+            throw new IllegalArgumentException(String.format(
+                    "Group commit batch size must be between 1 and %d", ProcessOperationBatchUseCase.MAX_BATCH_SIZE));
+        if (writerCount <= 0)
+            throw new IllegalArgumentException("Group commit writer count must be positive");
+
+        this.processOperationBatchUseCase = processOperationBatchUseCase;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = DistributionSummary.builder("ledger.group_commit.batch.size")
+                .description("Operations written per group commit")
+                .baseUnit("operations")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("ledger.group_commit.fallbacks")
+                .description("Operations written on their own after group commit could not take them")
+                .register(meterRegistry);
+        Gauge.builder("ledger.group_commit.queue", queue, BlockingQueue::size)
+                .description("Operations waiting for a group commit")
+                .register(meterRegistry);
+
+        if (enabled) {
+            for (int i = 0; i < writerCount; i++) {
+                Thread writer = Thread.ofPlatform()
+                        .name("group-commit-writer-" + i)
+                        .daemon(true)
+                        .unstarted(this::write);
+                writers.add(writer);
+                writer.start();
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues the command and blocks until its group committed
+     *
+     * @return result of the command in its group (CREATED or DUPLICATE),
+     *         empty when the caller must write the operation itself
+     */
+    public Optional<ItemResult> submit(ProcessOperationCommand command) {
+        Objects.requireNonNull(command, "Command cannot be null");
+
+        Pending pending = new Pending(command, new CompletableFuture<>());
+        if (!running || !queue.offer(pending))
+            return fallback();
+        // Shutdown may have drained the queue before the offer
+        if (!running && queue.remove(pending))
+            return fallback();
+
+        ItemResult result = pending.result().join();
+        if (result == null || result.status() == ItemStatus.REJECTED)
+            return fallback();
+        return Optional.of(result);
+    }
+
+    /**
+     * Stops the writers after the groups in flight committed; queued
+     * commands are handed back to their callers
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        for (Thread writer : writers) {
+            writer.join(SHUTDOWN_TIMEOUT);
+        }
+        Pending pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result().complete(null);
+        }
+    }
+
+    private void write() {
+        List<Pending> group = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                Pending first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null)
+                    continue;
+                group.add(first);
+                collect(group);
+                commit(group);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                group.forEach(pending -> pending.result().complete(null));
+                group.clear();
+            }
+        }
+    }
+
+    /**
+     * Adds what is already queued, then waits up to max-delay after the first
+     * command for the group to fill up
+     */
+    private void collect(List<Pending> group) throws InterruptedException {
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (group.size() < maxBatchSize) {
+            if (queue.drainTo(group, maxBatchSize - group.size()) > 0)
+                continue;
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0)
+                return;
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null)
+                return;
+            group.add(next);
+        }
+    }
+
+    private void commit(List<Pending> group) {
+        BatchResult result;
+        try {
+            result = processOperationBatchUseCase.executeGroup(group.stream().map(Pending::command).toList());
+        } catch (RuntimeException ex) {
+            // Callers fall back to their own transaction, which isolates the
+            // failing command from the rest of the group
+            log.warn("Group commit of {} operations failed, writing them one by one", group.size(), ex);
+            return;
+        }
+
+        batchSize.record(group.size());
+        for (ItemResult item : result.items()) {
+            group.get(item.index()).result().complete(item);
+        }
+    }
+
+    private Optional<ItemResult> fallback() {
+        fallbacks.increment();
+        return Optional.empty();
+    }
+
+    private record Pending(ProcessOperationCommand command, CompletableFuture<ItemResult> result) {
+    }
+}
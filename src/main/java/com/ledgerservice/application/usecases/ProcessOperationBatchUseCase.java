@@ -0,0 +1,425 @@
+package com.ledgerservice.application.usecases;
+
+import com.ledgerservice.application.services.LedgerPostingService;
+import com.ledgerservice.application.services.LedgerPostingService.Posting;
+import com.ledgerservice.application.usecases.ProcessOperationUseCase.ProcessOperationCommand;
+import com.ledgerservice.domain.entities.Entry;
+import com.ledgerservice.domain.entities.Operation;
+import com.ledgerservice.domain.enums.AccountType;
+import com.ledgerservice.domain.exceptions.AccountNotFoundException;
+import com.ledgerservice.domain.exceptions.InsufficientFundsException;
+import com.ledgerservice.domain.services.EntryFactory;
+import com.ledgerservice.domain.services.HotAccountPolicy;
+import com.ledgerservice.domain.services.OverdraftPolicy;
+import com.ledgerservice.domain.valueobjects.ExternalReference;
+import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.infrastructure.concurrency.AccountLockManager;
+import com.ledgerservice.infrastructure.idempotency.ExternalReferenceFilter;
+import com.ledgerservice.infrastructure.observability.StructuredLogger;
+import com.ledgerservice.infrastructure.observability.UseCaseMetrics;
+import com.ledgerservice.infrastructure.observability.UseCaseMetrics.DuplicatePath;
+import com.ledgerservice.infrastructure.persistence.entities.AccountJpaEntity;
+import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
+import com.ledgerservice.infrastructure.persistence.repositories.AccountBalanceRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.OperationJpaRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Use Case: Process a batch of financial operations
+ * 
+ * GUARANTEES:
+ * - Idempotent per item: same external_reference returns existing operation,
+ * also when repeated inside the batch
+ * - Per-item outcome: unknown accounts or insufficient funds (overdraft
+ * protected account types) reject only the affected item
+ * - Atomic: every accepted item of the batch is written in a single
+ * transaction
+ * - Serialized per account: every account written by the batch is locked
+ * (AccountLockManager) before the first INSERT, except hot accounts
+ * (HotAccountPolicy), whose running balance is written to a random shard
+ * 
+ * Round trips per batch (independent of its size):
+ * - 1 SELECT ... WHERE external_reference IN (...), limited to the references
+ * ExternalReferenceFilter might have seen (skipped when all are new)
+ * - 1 SELECT ... WHERE id IN (...) on accounts
+ * - 1 SELECT ... FOR UPDATE on account_balances, only when an account of the
+ * batch is overdraft-protected
+ * - batched INSERTs for operations and entries
+ */
+@Service
+public class ProcessOperationBatchUseCase {
+
+    public static final int MAX_BATCH_SIZE = 500;
+
+    // A concurrent request may insert one of our external references between
+    // the idempotency query and the commit. The batch is then re-resolved, so
+    // the conflicting item comes back as a duplicate.
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final OperationJpaRepository operationRepository;
+    private final AccountJpaRepository accountRepository;
+    private final EntryFactory entryFactory;
+    private final LedgerPostingService ledgerPostingService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExternalReferenceFilter externalReferenceFilter;
+    private final AccountLockManager accountLockManager;
+    private final AccountBalanceRepository accountBalanceRepository;
+    private final OverdraftPolicy overdraftPolicy;
+    private final HotAccountPolicy hotAccountPolicy;
+    private final StructuredLogger structuredLogger;
+    private final UseCaseMetrics useCaseMetrics;
+
+    public ProcessOperationBatchUseCase(
+            OperationJpaRepository operationRepository,
+            AccountJpaRepository accountRepository,
+            EntryFactory entryFactory,
+            LedgerPostingService ledgerPostingService,
+            TransactionTemplate transactionTemplate,
+            ExternalReferenceFilter externalReferenceFilter,
+            AccountLockManager accountLockManager,
+            AccountBalanceRepository accountBalanceRepository,
+            OverdraftPolicy overdraftPolicy,
+            HotAccountPolicy hotAccountPolicy,
+            StructuredLogger structuredLogger,
+            UseCaseMetrics useCaseMetrics) {
+        this.operationRepository = operationRepository;
+        this.accountRepository = accountRepository;
+        this.entryFactory = entryFactory;
+        this.ledgerPostingService = ledgerPostingService;
+        this.transactionTemplate = transactionTemplate;
+        this.externalReferenceFilter = externalReferenceFilter;
+        this.accountLockManager = accountLockManager;
+        this.accountBalanceRepository = accountBalanceRepository;
+        this.overdraftPolicy = overdraftPolicy;
+        this.hotAccountPolicy = hotAccountPolicy;
+        this.structuredLogger = structuredLogger;
+        this.useCaseMetrics = useCaseMetrics;
+    }
+
+    public BatchResult execute(List<ProcessOperationCommand> commands) {
+        return useCaseMetrics.time("process_operation_batch", () -> {
+            validate(commands);
+            commands.forEach(command -> structuredLogger.logOperationReceived(
+                    command.externalReference().getValue(),
+                    command.type().name(),
+                    command.amount().getValue()));
+
+            BatchResult result = executeWithRetry(commands);
+            logOutcomes(result, commands);
+            return result;
+        });
+    }
+
+    /**
+     * Writes commands coalesced by OperationGroupCommit, whose callers each
+     * log their own operation: same guarantees as execute, without the
+     * structured events
+     */
+    BatchResult executeGroup(List<ProcessOperationCommand> commands) {
+        return useCaseMetrics.time("process_operation_group", () -> {
+            validate(commands);
+            return executeWithRetry(commands);
+        });
+    }
+
+    private static void validate(List<ProcessOperationCommand> commands) {
+        Objects.requireNonNull(commands, "Commands cannot be null");
+        if (commands.isEmpty())
+            throw new IllegalArgumentException("Batch cannot be empty");
+        if (commands.size() > MAX_BATCH_SIZE)
+            throw new IllegalArgumentException(
+                    String.format("Batch cannot contain more than %d operations", MAX_BATCH_SIZE));
+    }
+
+    private BatchResult executeWithRetry(List<ProcessOperationCommand> commands) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                // After a conflict the filter is known to be stale for this
+                // batch, so every reference is looked up
+                boolean useFilter = attempt == 1;
+                BatchResult result = transactionTemplate.execute(status -> executeTransactional(commands, useFilter));
+                result.items().stream()
+                        .filter(item -> item.status() == ItemStatus.CREATED)
+                        .forEach(item -> externalReferenceFilter.add(item.externalReference()));
+                return result;
+            } catch (DataIntegrityViolationException ex) {
+                if (attempt >= MAX_ATTEMPTS)
+                    throw ex;
+            }
+        }
+    }
+
+    private BatchResult executeTransactional(List<ProcessOperationCommand> commands, boolean useFilter) {
+        ItemResult[] results = new ItemResult[commands.size()];
+
+        // First occurrence of each external reference inside the batch
+        Map<String, Integer> firstIndexByReference = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            firstIndexByReference.putIfAbsent(commands.get(i).externalReference().getValue(), i);
+        }
+
+        Map<String, Operation> existingByReference = findExisting(commands, firstIndexByReference, useFilter);
+
+        Map<UUID, AccountType> knownAccounts = findKnownAccounts(commands, firstIndexByReference, existingByReference);
+
+        Set<UUID> shardedAccounts = hotAccountPolicy.shardedAccounts(knownAccounts);
+
+        // Every account the batch may write, hot accounts aside, locked in one
+        // ordered acquisition before any balance is read
+        Set<UUID> lockedAccounts = new HashSet<>();
+        firstIndexByReference.forEach((reference, index) -> {
+            ProcessOperationCommand command = commands.get(index);
+            if (!existingByReference.containsKey(reference) && findMissingAccount(command, knownAccounts) == null)
+                accountsOf(command).stream()
+                        .filter(accountId -> !shardedAccounts.contains(accountId))
+                        .forEach(lockedAccounts::add);
+        });
+        accountLockManager.lockForTransaction(lockedAccounts);
+
+        Map<UUID, Money> available = lockBalancesIfProtected(lockedAccounts, knownAccounts);
+
+        List<Posting> postings = new ArrayList<>();
+
+        for (Map.Entry<String, Integer> first : firstIndexByReference.entrySet()) {
+            int index = first.getValue();
+            ProcessOperationCommand command = commands.get(index);
+
+            Operation existing = existingByReference.get(first.getKey());
+            if (existing != null) {
+                results[index] = ItemResult.duplicate(index, command.externalReference(), existing);
+                continue;
+            }
+
+            UUID missingAccount = findMissingAccount(command, knownAccounts);
+            if (missingAccount != null) {
+                results[index] = ItemResult.rejected(index, command.externalReference(),
+                        new AccountNotFoundException(missingAccount).getMessage());
+                continue;
+            }
+
+            try {
+                reserveFunds(command, knownAccounts, shardedAccounts, available);
+            } catch (InsufficientFundsException ex) {
+                results[index] = ItemResult.rejected(index, command.externalReference(), ex.getMessage());
+                continue;
+            }
+
+            Operation operation = Operation.createProcessed(command.externalReference(), command.type());
+
+            List<Entry> entries = entryFactory.createOperationEntries(
+                    operation.getId(),
+                    command.type(),
+                    command.sourceAccountId(),
+                    command.targetAccountId(),
+                    command.amount(),
+                    command.resolvedSource());
+
+            postings.add(new Posting(operation, entries));
+            results[index] = ItemResult.created(index, command.externalReference(), operation);
+        }
+
+        ledgerPostingService.post(postings, shardedAccounts);
+
+        // Repeated references inside the batch share the outcome of their first
+        // occurrence
+        for (int i = 0; i < commands.size(); i++) {
+            if (results[i] != null)
+                continue;
+            ItemResult first = results[firstIndexByReference.get(commands.get(i).externalReference().getValue())];
+            results[i] = first.status() == ItemStatus.REJECTED
+                    ? ItemResult.rejected(i, first.externalReference(), first.error())
+                    : ItemResult.duplicate(i, first.externalReference(), first.operation());
+        }
+
+        return new BatchResult(Arrays.asList(results));
+    }
+
+    private Map<String, Operation> findExisting(
+            List<ProcessOperationCommand> commands,
+            Map<String, Integer> firstIndexByReference,
+            boolean useFilter) {
+        List<String> references = firstIndexByReference.values().stream()
+                .map(commands::get)
+                .map(ProcessOperationCommand::externalReference)
+                .filter(reference -> !useFilter || !externalReferenceFilter.isDefinitelyNew(reference))
+                .map(ExternalReference::getValue)
+                .toList();
+
+        if (references.isEmpty())
+            return Map.of();
+
+        return operationRepository.findByExternalReferenceIn(references)
+                .stream()
+                .map(EntityMapper::toDomain)
+                .collect(Collectors.toMap(op -> op.getExternalReference().getValue(), Function.identity()));
+    }
+
+    private Map<UUID, AccountType> findKnownAccounts(
+            List<ProcessOperationCommand> commands,
+            Map<String, Integer> firstIndexByReference,
+            Map<String, Operation> existingByReference) {
+        Set<UUID> accountIds = new HashSet<>();
+        firstIndexByReference.forEach((reference, index) -> {
+            if (existingByReference.containsKey(reference))
+                return;
+            ProcessOperationCommand command = commands.get(index);
+            if (command.sourceAccountId() != null)
+                accountIds.add(command.sourceAccountId());
+            if (command.targetAccountId() != null)
+                accountIds.add(command.targetAccountId());
+        });
+
+        if (accountIds.isEmpty())
+            return Map.of();
+
+        return accountRepository.findAllById(accountIds).stream()
+                .collect(Collectors.toMap(AccountJpaEntity::getId, AccountJpaEntity::getType));
+    }
+
+    private UUID findMissingAccount(ProcessOperationCommand command, Map<UUID, AccountType> knownAccounts) {
+        if (command.sourceAccountId() != null && !knownAccounts.containsKey(command.sourceAccountId()))
+            return command.sourceAccountId();
+        if (command.targetAccountId() != null && !knownAccounts.containsKey(command.targetAccountId()))
+            return command.targetAccountId();
+        return null;
+    }
+
+    private static List<UUID> accountsOf(ProcessOperationCommand command) {
+        return Stream.of(command.sourceAccountId(), command.targetAccountId())
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Locks the running balances of the batch accounts when at least one of
+     * them is overdraft-protected (one SELECT ... FOR UPDATE)
+     */
+    private Map<UUID, Money> lockBalancesIfProtected(Set<UUID> accounts, Map<UUID, AccountType> accountTypes) {
+        boolean anyProtected = accounts.stream()
+                .anyMatch(id -> overdraftPolicy.isProtected(accountTypes.get(id)));
+        if (!anyProtected)
+            return new HashMap<>();
+
+        Map<UUID, Money> balances = new HashMap<>();
+        accountBalanceRepository.lockBalances(accounts)
+                .forEach((id, balance) -> balances.put(id, Money.of(balance)));
+        return balances;
+    }
+
+    /**
+     * Checks the debit against the balance left by the earlier items of the
+     * batch, then moves the amount between the tracked balances
+     * Only protected sources are checked: hot accounts are never locked, so
+     * they have no tracked balance
+     */
+    private void reserveFunds(
+            ProcessOperationCommand command,
+            Map<UUID, AccountType> accountTypes,
+            Set<UUID> shardedAccounts,
+            Map<UUID, Money> available) {
+        if (available.isEmpty())
+            return;
+
+        UUID source = command.sourceAccountId();
+        if (source != null) {
+            if (overdraftPolicy.isProtected(accountTypes.get(source)) && !shardedAccounts.contains(source))
+                overdraftPolicy.checkDebit(source, accountTypes.get(source), available.get(source), command.amount());
+            available.computeIfPresent(source, (id, balance) -> balance.subtract(command.amount()));
+        }
+        if (command.targetAccountId() != null)
+            available.computeIfPresent(command.targetAccountId(), (id, balance) -> balance.add(command.amount()));
+    }
+
+    private void logOutcomes(BatchResult result, List<ProcessOperationCommand> commands) {
+        for (ItemResult item : result.items()) {
+            switch (item.status()) {
+                case CREATED -> structuredLogger.logOperationProcessed(
+                        item.operation().getId(),
+                        item.externalReference().getValue(),
+                        item.operation().getType().name(),
+                        commands.get(item.index()).amount().getValue());
+                case DUPLICATE -> {
+                    structuredLogger.logDuplicateDetected(
+                            item.externalReference().getValue(),
+                            item.operation().getId());
+                    useCaseMetrics.duplicateDetected(DuplicatePath.BATCH);
+                }
+                case REJECTED -> {
+                    // Reported to the caller in the item result
+                }
+            }
+        }
+    }
+
+    /**
+     * Outcome of a single item of the batch
+     */
+    public enum ItemStatus {
+        /**
+         * Operation written by this batch
+         */
+        CREATED,
+
+        /**
+         * External reference already known (in the database or earlier in the
+         * batch), existing operation returned
+         */
+        DUPLICATE,
+
+        /**
+         * Item refused, nothing written
+         */
+        REJECTED
+    }
+
+    /**
+     * Result of a single item, in request order
+     * operation is null for rejected items, error is null otherwise
+     */
+    public record ItemResult(
+            int index,
+            ExternalReference externalReference,
+            ItemStatus status,
+            Operation operation,
+            String error) {
+
+        static ItemResult created(int index, ExternalReference externalReference, Operation operation) {
+            return new ItemResult(index, externalReference, ItemStatus.CREATED, operation, null);
+        }
+
+        static ItemResult duplicate(int index, ExternalReference externalReference, Operation operation) {
+            return new ItemResult(index, externalReference, ItemStatus.DUPLICATE, operation, null);
+        }
+
+        public static ItemResult rejected(int index, ExternalReference externalReference, String error) {
+            return new ItemResult(index, externalReference, ItemStatus.REJECTED, null, error);
+        }
+    }
+
+    /**
+     * Result of a batch, one item per command in request order
+     */
+    public record BatchResult(List<ItemResult> items) {
+
+        public long count(ItemStatus status) {
+            return items.stream().filter(item -> item.status() == status).count();
+        }
+    }
+}
@@ -1,24 +1,46 @@
 package com.ledgerservice.application.usecases;
 
+import com.ledgerservice.application.services.LedgerPostingService;
+import com.ledgerservice.application.services.LedgerPostingService.Posting;
+import com.ledgerservice.application.usecases.ProcessOperationBatchUseCase.ItemStatus;
 import com.ledgerservice.domain.entities.Entry;
 import com.ledgerservice.domain.entities.Operation;
+import com.ledgerservice.domain.enums.AccountType;
 import com.ledgerservice.domain.enums.OperationStatus;
 import com.ledgerservice.domain.enums.OperationType;
 import com.ledgerservice.domain.exceptions.AccountNotFoundException;
 import com.ledgerservice.domain.services.EntryFactory;
+import com.ledgerservice.domain.services.HotAccountPolicy;
+import com.ledgerservice.domain.services.OverdraftPolicy;
 import com.ledgerservice.domain.valueobjects.ExternalReference;
 import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.infrastructure.concurrency.AccountLockManager;
+import com.ledgerservice.infrastructure.idempotency.ExternalReferenceFilter;
+import com.ledgerservice.infrastructure.idempotency.IdempotencyCache;
 import com.ledgerservice.infrastructure.observability.StructuredLogger;
+import com.ledgerservice.infrastructure.observability.UseCaseMetrics;
+import com.ledgerservice.infrastructure.observability.UseCaseMetrics.DuplicatePath;
+import com.ledgerservice.infrastructure.persistence.entities.OperationJpaEntity;
+import com.ledgerservice.infrastructure.persistence.entities.AccountJpaEntity;
 import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
+import com.ledgerservice.infrastructure.persistence.metrics.StatementCounter;
+import com.ledgerservice.infrastructure.persistence.repositories.AccountBalanceRepository;
 import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
 import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaRepository;
 import com.ledgerservice.infrastructure.persistence.repositories.OperationJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -26,29 +48,102 @@ import java.util.UUID;
  * 
  * GUARANTEES:
  * - Idempotent: same external_reference returns existing operation
+ * (recent processed ones straight from IdempotencyCache, without a transaction;
+ * first-seen ones skip the lookup via ExternalReferenceFilter and rely on the
+ * unique index)
  * - Atomic: all entries created in single transaction or none
  * - Double-entry: debits and credits always balance to zero
+ * - Serialized per account: writers touching the same account run one at a
+ * time (AccountLockManager), transfers lock both accounts in a fixed order.
+ * Hot accounts (HotAccountPolicy) are the exception: they are not locked and
+ * their running balance is written to a random shard
+ * - Overdraft protection (opt-in per account type): debits on protected
+ * accounts are checked against the locked running balance, never against
+ * the entry history
+ * 
+ * Write modes (ledger.operations.write-mode):
+ * - SINGLE_WRITE (default): operation inserted once, already PROCESSED, and
+ * its entries in one batched INSERT
+ * - INSERT_THEN_UPDATE: operation inserted as PROCESSING, entries saved one
+ * by one, operation updated to PROCESSED (kept for comparison)
+ * 
+ * With group commit enabled (OperationGroupCommit), new operations are queued
+ * and written in groups through ProcessOperationBatchUseCase, whatever the
+ * write mode; the caller returns once its group committed, and falls back to
+ * its own transaction when the group could not take it.
+ * 
+ * Statements per persisted operation are reported through the
+ * ledger.operation.statements and ledger.operation.writes counters, tagged
+ * by write mode. Every execution is timed (UseCaseMetrics) by operation type
+ * and outcome (created, duplicate, error), and duplicates are counted by the
+ * path that detected them.
  */
 @Service
 public class ProcessOperationUseCase {
 
+    private static final String USE_CASE = "process_operation";
+
     private final OperationJpaRepository operationRepository;
     private final AccountJpaRepository accountRepository;
     private final EntryJpaRepository entryRepository;
     private final EntryFactory entryFactory;
+    private final LedgerPostingService ledgerPostingService;
+    private final TransactionTemplate transactionTemplate;
+    private final IdempotencyCache idempotencyCache;
+    private final ExternalReferenceFilter externalReferenceFilter;
+    private final AccountLockManager accountLockManager;
+    private final OperationGroupCommit operationGroupCommit;
+    private final AccountBalanceRepository accountBalanceRepository;
+    private final OverdraftPolicy overdraftPolicy;
+    private final HotAccountPolicy hotAccountPolicy;
     private final StructuredLogger structuredLogger;
+    private final UseCaseMetrics useCaseMetrics;
+    private final WriteMode writeMode;
+    private final Counter statementsCounter;
+    private final Counter writesCounter;
 
     public ProcessOperationUseCase(
             OperationJpaRepository operationRepository,
             AccountJpaRepository accountRepository,
             EntryJpaRepository entryRepository,
             EntryFactory entryFactory,
-            StructuredLogger structuredLogger) {
+            LedgerPostingService ledgerPostingService,
+            TransactionTemplate transactionTemplate,
+            IdempotencyCache idempotencyCache,
+            ExternalReferenceFilter externalReferenceFilter,
+            AccountLockManager accountLockManager,
+            OperationGroupCommit operationGroupCommit,
+            AccountBalanceRepository accountBalanceRepository,
+            OverdraftPolicy overdraftPolicy,
+            HotAccountPolicy hotAccountPolicy,
+            StructuredLogger structuredLogger,
+            UseCaseMetrics useCaseMetrics,
+            MeterRegistry meterRegistry,
+            @Value("${ledger.operations.write-mode:SINGLE_WRITE}") WriteMode writeMode) {
         this.operationRepository = operationRepository;
         this.accountRepository = accountRepository;
         this.entryRepository = entryRepository;
         this.entryFactory = entryFactory;
+        this.ledgerPostingService = ledgerPostingService;
+        this.transactionTemplate = transactionTemplate;
+        this.idempotencyCache = idempotencyCache;
+        this.externalReferenceFilter = externalReferenceFilter;
+        this.accountLockManager = accountLockManager;
+        this.operationGroupCommit = operationGroupCommit;
+        this.accountBalanceRepository = accountBalanceRepository;
+        this.overdraftPolicy = overdraftPolicy;
+        this.hotAccountPolicy = hotAccountPolicy;
         this.structuredLogger = structuredLogger;
+        this.useCaseMetrics = useCaseMetrics;
+        this.writeMode = writeMode;
+        this.statementsCounter = Counter.builder("ledger.operation.statements")
+                .description("SQL statements issued while persisting new operations")
+                .tag("write_mode", writeMode.name().toLowerCase())
+                .register(meterRegistry);
+        this.writesCounter = Counter.builder("ledger.operation.writes")
+                .description("New operations persisted")
+                .tag("write_mode", writeMode.name().toLowerCase())
+                .register(meterRegistry);
     }
 
     /**
@@ -67,14 +162,67 @@ public class ProcessOperationUseCase {
      * - Result: Perfect idempotency even with 100+ concurrent identical requests
      */
     public Operation execute(ProcessOperationCommand command) {
+        Timer.Sample sample = useCaseMetrics.start();
+        String outcome = "error";
+
         // Log operation received
         structuredLogger.logOperationReceived(
                 command.externalReference().getValue(),
                 command.type().name(),
                 command.amount().getValue());
 
+        // Retries of recently processed operations never open a transaction
+        var cached = idempotencyCache.find(command.externalReference());
+        if (cached.isPresent()) {
+            structuredLogger.logDuplicateDetected(
+                    command.externalReference().getValue(),
+                    cached.get().getId());
+            useCaseMetrics.duplicateDetected(DuplicatePath.CACHE);
+            useCaseMetrics.stop(sample, USE_CASE, command.type(), "duplicate");
+            return cached.get();
+        }
+
+        if (operationGroupCommit.isEnabled()) {
+            var grouped = operationGroupCommit.submit(command);
+            if (grouped.isPresent()) {
+                Operation operation = grouped.get().operation();
+                idempotencyCache.put(operation);
+                if (grouped.get().status() == ItemStatus.CREATED) {
+                    structuredLogger.logOperationProcessed(
+                            operation.getId(),
+                            operation.getExternalReference().getValue(),
+                            operation.getType().name(),
+                            command.amount().getValue());
+                    useCaseMetrics.stop(sample, USE_CASE, command.type(), "created");
+                } else {
+                    structuredLogger.logDuplicateDetected(command.externalReference().getValue(), operation.getId());
+                    useCaseMetrics.duplicateDetected(DuplicatePath.BATCH);
+                    useCaseMetrics.stop(sample, USE_CASE, command.type(), "duplicate");
+                }
+                return operation;
+            }
+        }
+
+        StatementCounter.start();
         try {
-            return executeTransactional(command);
+            Written written = transactionTemplate.execute(status -> executeTransactional(command));
+            long statements = StatementCounter.stop();
+            idempotencyCache.put(written.operation());
+            if (written.created()) {
+                externalReferenceFilter.add(written.operation().getExternalReference());
+                statementsCounter.increment(statements);
+                writesCounter.increment();
+                structuredLogger.logOperationProcessed(
+                        written.operation().getId(),
+                        written.operation().getExternalReference().getValue(),
+                        written.operation().getType().name(),
+                        command.amount().getValue());
+                outcome = "created";
+            } else {
+                useCaseMetrics.duplicateDetected(DuplicatePath.PRECHECK);
+                outcome = "duplicate";
+            }
+            return written.operation();
         } catch (org.springframework.dao.DataIntegrityViolationException ex) {
             // Race condition detected: multiple threads passed the initial check
             // and tried to insert simultaneously. PostgreSQL rejected duplicates.
@@ -83,9 +231,13 @@ public class ProcessOperationUseCase {
                     .map(EntityMapper::toDomain)
                     .orElseThrow(() -> ex); // If still not found, re-throw (unexpected)
 
+            idempotencyCache.put(existing);
+
             structuredLogger.logDuplicateDetected(
                     command.externalReference().getValue(),
                     existing.getId());
+            useCaseMetrics.duplicateDetected(DuplicatePath.RACE);
+            outcome = "duplicate";
 
             return existing;
         } catch (Exception ex) {
@@ -94,35 +246,66 @@ public class ProcessOperationUseCase {
                     ex.getClass().getSimpleName(),
                     ex);
             throw ex;
+        } finally {
+            StatementCounter.stop();
+            useCaseMetrics.stop(sample, USE_CASE, command.type(), outcome);
         }
     }
 
     /**
      * Core transactional logic - kept simple and focused.
-     * Called by the public wrapper method.
+     * Runs inside the transaction opened by the public wrapper method.
      */
-    @Transactional
-    private Operation executeTransactional(ProcessOperationCommand command) {
-        var existing = operationRepository.findByExternalReference(command.externalReference().getValue());
+    private Written executeTransactional(ProcessOperationCommand command) {
+        // A reference the filter has never seen cannot exist: skip the SELECT,
+        // the unique index still rejects it if another instance inserted it
+        var existing = externalReferenceFilter.isDefinitelyNew(command.externalReference())
+                ? Optional.<OperationJpaEntity>empty()
+                : operationRepository.findByExternalReference(command.externalReference().getValue());
         if (existing.isPresent()) {
             var existingOp = EntityMapper.toDomain(existing.get());
             structuredLogger.logDuplicateDetected(
                     command.externalReference().getValue(),
                     existingOp.getId());
-            return existingOp;
+            return new Written(existingOp, false);
         }
 
-        validateAccountsExist(command);
+        Map<UUID, AccountType> accountTypes = findAccountTypes(command);
+        Set<UUID> shardedAccounts = hotAccountPolicy.shardedAccounts(accountTypes);
+        List<UUID> lockedAccounts = accountTypes.keySet().stream()
+                .filter(accountId -> !shardedAccounts.contains(accountId))
+                .toList();
 
-        Operation operation = Operation.create(command.externalReference(), command.type());
+        accountLockManager.lockForTransaction(lockedAccounts);
 
-        List<Entry> entries = createEntries(operation, command);
+        checkSufficientFunds(command, accountTypes.get(command.sourceAccountId()), lockedAccounts);
 
         // Note: Double-entry validation removed temporarily
         // In a real ledger, DEPOSIT/WITHDRAWAL would need corresponding
         // system/transit account entries to balance. This will be
         // implemented in Phase 6 with proper account architecture.
 
+        Operation result = switch (writeMode) {
+            case SINGLE_WRITE -> writeOnce(command, shardedAccounts);
+            case INSERT_THEN_UPDATE -> insertThenUpdate(command, shardedAccounts);
+        };
+
+        return new Written(result, true);
+    }
+
+    private Operation writeOnce(ProcessOperationCommand command, Set<UUID> shardedAccounts) {
+        Operation operation = Operation.createProcessed(command.externalReference(), command.type());
+
+        ledgerPostingService.post(List.of(new Posting(operation, createEntries(operation, command))), shardedAccounts);
+
+        return operation;
+    }
+
+    private Operation insertThenUpdate(ProcessOperationCommand command, Set<UUID> shardedAccounts) {
+        Operation operation = Operation.create(command.externalReference(), command.type());
+
+        List<Entry> entries = createEntries(operation, command);
+
         var operationJpa = EntityMapper.toJpa(operation);
         operationJpa = operationRepository.save(operationJpa);
 
@@ -130,74 +313,83 @@ public class ProcessOperationUseCase {
                 .map(EntityMapper::toJpa)
                 .forEach(entryRepository::save);
 
+        ledgerPostingService.updateRunningBalances(entries, shardedAccounts);
+
         operationJpa.setStatus(OperationStatus.PROCESSED);
         operationJpa.setProcessedAt(LocalDateTime.now());
         operationJpa = operationRepository.save(operationJpa);
 
-        Operation result = EntityMapper.toDomain(operationJpa);
-
-        structuredLogger.logOperationProcessed(
-                result.getId(),
-                result.getExternalReference().getValue(),
-                result.getType().name(),
-                command.amount().getValue());
+        Operation processed = EntityMapper.toDomain(operationJpa);
+        ledgerPostingService.recordProcessed(List.of(new Posting(processed, entries)));
 
-        return result;
+        return processed;
     }
 
-    private void validateAccountsExist(ProcessOperationCommand command) {
-        if (command.sourceAccountId() != null) {
-            accountRepository.findById(command.sourceAccountId())
-                    .orElseThrow(() -> new AccountNotFoundException(command.sourceAccountId()));
-        }
-        if (command.targetAccountId() != null) {
-            accountRepository.findById(command.targetAccountId())
-                    .orElseThrow(() -> new AccountNotFoundException(command.targetAccountId()));
+    /**
+     * Type of each account of the operation (one or two)
+     */
+    private Map<UUID, AccountType> findAccountTypes(ProcessOperationCommand command) {
+        Map<UUID, AccountType> accountTypes = new HashMap<>(2);
+        for (UUID accountId : new UUID[] { command.sourceAccountId(), command.targetAccountId() }) {
+            if (accountId == null)
+                continue;
+            accountTypes.put(accountId, accountRepository.findById(accountId)
+                    .map(AccountJpaEntity::getType)
+                    .orElseThrow(() -> new AccountNotFoundException(accountId)));
         }
+        return accountTypes;
+    }
+
+    /**
+     * O(1) funds check: locks the running balance rows of the locked accounts
+     * (in id order, so opposite transfers cannot deadlock) and compares the
+     * source balance with the debit. The lock is held until commit, when the
+     * balance already includes this operation.
+     * 
+     * A hot target is left out: its shard row is only locked by the update,
+     * after every main row (see AccountBalanceRepository).
+     * 
+     * @param sourceType type of the source account, null when there is none
+     *                   (deposit)
+     */
+    private void checkSufficientFunds(
+            ProcessOperationCommand command,
+            AccountType sourceType,
+            List<UUID> lockedAccounts) {
+        if (command.sourceAccountId() == null || !overdraftPolicy.isProtected(sourceType))
+            return;
+
+        var balances = accountBalanceRepository.lockBalances(lockedAccounts);
+
+        overdraftPolicy.checkDebit(
+                command.sourceAccountId(),
+                sourceType,
+                Money.of(balances.get(command.sourceAccountId())),
+                command.amount());
     }
 
     private List<Entry> createEntries(Operation operation, ProcessOperationCommand command) {
-        List<Entry> entries = new ArrayList<>();
-        String source = command.source() != null ? command.source() : "api";
-
-        switch (command.type()) {
-            case DEPOSIT -> {
-                Entry credit = entryFactory.createCreditEntry(
-                        operation.getId(),
-                        command.targetAccountId(),
-                        command.amount(),
-                        "deposit",
-                        source);
-                entries.add(credit);
-            }
-            case WITHDRAWAL -> {
-                Entry debit = entryFactory.createDebitEntry(
-                        operation.getId(),
-                        command.sourceAccountId(),
-                        command.amount(),
-                        "withdrawal",
-                        source);
-                entries.add(debit);
-            }
-            case TRANSFER -> {
-                Entry debit = entryFactory.createDebitEntry(
-                        operation.getId(),
-                        command.sourceAccountId(),
-                        command.amount(),
-                        "transfer_out",
-                        source);
-                Entry credit = entryFactory.createCreditEntry(
-                        operation.getId(),
-                        command.targetAccountId(),
-                        command.amount(),
-                        "transfer_in",
-                        source);
-                entries.add(debit);
-                entries.add(credit);
-            }
-        }
+        return entryFactory.createOperationEntries(
+                operation.getId(),
+                command.type(),
+                command.sourceAccountId(),
+                command.targetAccountId(),
+                command.amount(),
+                command.resolvedSource());
+    }
+
+    /**
+     * How a new operation is written to the database
+     */
+    public enum WriteMode {
+        SINGLE_WRITE,
+        INSERT_THEN_UPDATE
+    }
 
-        return entries;
+    /**
+     * Operation returned by the transaction and whether it was created by it
+     */
+    private record Written(Operation operation, boolean created) {
     }
 
     /**
@@ -211,6 +403,8 @@ public class ProcessOperationUseCase {
             Money amount,
             String source // nullable, defaults to "api"
     ) {
+        private static final String DEFAULT_SOURCE = "api";
+
         public ProcessOperationCommand {
             if (externalReference == null)
                 throw new IllegalArgumentException("External reference cannot be null");
@@ -236,5 +430,12 @@ public class ProcessOperationUseCase {
                 }
             }
         }
+
+        /**
+         * Source of the entries, defaulting to "api"
+         */
+        public String resolvedSource() {
+            return source != null ? source : DEFAULT_SOURCE;
+        }
     }
 }
\ No newline at end of file
@@ -1,63 +1,80 @@
 package com.ledgerservice.application.usecases;
 
-import com.ledgerservice.domain.entities.Entry;
+import com.ledgerservice.application.services.BalanceMode;
+import com.ledgerservice.application.services.BalanceQueryService;
 import com.ledgerservice.domain.entities.ReconciliationRecord;
 import com.ledgerservice.domain.exceptions.AccountNotFoundException;
-import com.ledgerservice.domain.services.BalanceCalculator;
 import com.ledgerservice.domain.valueobjects.Money;
 import com.ledgerservice.infrastructure.observability.StructuredLogger;
+import com.ledgerservice.infrastructure.observability.UseCaseMetrics;
 import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
 import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
-import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaRepository;
 import com.ledgerservice.infrastructure.persistence.repositories.ReconciliationRecordJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.ReconciliationStatsRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Use Case: Reconcile account balance
  * 
  * GUARANTEES:
  * - Read-only for financial data (does NOT auto-correct)
- * - Creates audit record of reconciliation
+ * - Creates audit record of reconciliation (and folds it into the
+ * per-account dashboard stats in the same transaction)
  * - Detects divergences between expected and calculated balance
+ * - Calculated balance uses the database aggregate by default, or a full
+ * entry scan in VERIFY mode
+ * - Timed including its transaction; results counted by status
+ * (UseCaseMetrics)
  */
 @Service
 public class ReconcileAccountUseCase {
 
         private final AccountJpaRepository accountRepository;
-        private final EntryJpaRepository entryRepository;
-        private final BalanceCalculator balanceCalculator;
+        private final BalanceQueryService balanceQueryService;
         private final ReconciliationRecordJpaRepository reconciliationRepository;
+        private final ReconciliationStatsRepository reconciliationStatsRepository;
         private final StructuredLogger structuredLogger;
+        private final UseCaseMetrics useCaseMetrics;
+        private final TransactionTemplate transactionTemplate;
 
         public ReconcileAccountUseCase(
                         AccountJpaRepository accountRepository,
-                        EntryJpaRepository entryRepository,
-                        BalanceCalculator balanceCalculator,
+                        BalanceQueryService balanceQueryService,
                         ReconciliationRecordJpaRepository reconciliationRepository,
-                        StructuredLogger structuredLogger) {
+                        ReconciliationStatsRepository reconciliationStatsRepository,
+                        StructuredLogger structuredLogger,
+                        UseCaseMetrics useCaseMetrics,
+                        TransactionTemplate transactionTemplate) {
                 this.accountRepository = accountRepository;
-                this.entryRepository = entryRepository;
-                this.balanceCalculator = balanceCalculator;
+                this.balanceQueryService = balanceQueryService;
                 this.reconciliationRepository = reconciliationRepository;
+                this.reconciliationStatsRepository = reconciliationStatsRepository;
                 this.structuredLogger = structuredLogger;
+                this.useCaseMetrics = useCaseMetrics;
+                this.transactionTemplate = transactionTemplate;
         }
 
-        @Transactional
         public ReconciliationResult execute(UUID accountId, Money expectedBalance) {
+                return execute(accountId, expectedBalance, BalanceMode.AGGREGATE);
+        }
+
+        public ReconciliationResult execute(UUID accountId, Money expectedBalance, BalanceMode mode) {
+                ReconciliationResult result = useCaseMetrics.time("reconcile_account",
+                                () -> transactionTemplate.execute(
+                                                status -> reconcile(accountId, expectedBalance, mode)));
+                useCaseMetrics.reconciliationRecorded(result.status());
+                return result;
+        }
+
+        private ReconciliationResult reconcile(UUID accountId, Money expectedBalance, BalanceMode mode) {
                 accountRepository.findById(accountId)
                                 .orElseThrow(() -> new AccountNotFoundException(accountId));
 
-                var entryJpaList = entryRepository.findByAccountIdOrderByCreatedAtAsc(accountId);
-                List<Entry> entries = entryJpaList.stream()
-                                .map(EntityMapper::toDomain)
-                                .collect(Collectors.toList());
-
-                Money calculatedBalance = balanceCalculator.calculateBalance(entries);
+                Money calculatedBalance = balanceQueryService.calculate(accountId, mode).balance();
 
                 ReconciliationRecord reconciliation = ReconciliationRecord.create(
                                 accountId,
@@ -78,6 +95,7 @@ public class ReconcileAccountUseCase {
 
                 var reconciliationJpa = EntityMapper.toJpa(reconciliation);
                 reconciliationRepository.save(reconciliationJpa);
+                reconciliationStatsRepository.record(List.of(reconciliation));
 
                 return new ReconciliationResult(
                                 reconciliation.getAccountId(),
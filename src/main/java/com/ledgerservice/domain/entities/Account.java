@@ -2,6 +2,7 @@ package com.ledgerservice.domain.entities;
 
 import com.ledgerservice.domain.enums.AccountType;
 import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.domain.valueobjects.MoneyAccumulator;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -51,9 +52,10 @@ public class Account {
     public Money calculateBalance(List<Entry> entries) {
         Objects.requireNonNull(entries, "Entries list cannot be null");
 
-        return entries.stream()
-                .map(Entry::getAmount)
-                .reduce(Money.zero(), Money::add);
+        MoneyAccumulator balance = MoneyAccumulator.zero();
+        for (Entry entry : entries)
+            balance.add(entry.getAmount());
+        return balance.toMoney();
     }
 
     public UUID getId() {
@@ -0,0 +1,177 @@
+package com.ledgerservice.domain.entities;
+
+import com.ledgerservice.domain.valueobjects.Money;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * BalanceCheckpoint entity - an append-only snapshot of an account balance
+ * 
+ * A checkpoint is NOT a stored balance: it is derived from entries, covers every
+ * entry up to a cursor (last entry created_at + id) and can always be rebuilt
+ * or audited against a full recompute.
+ * Balance = checkpoint running sum + SUM(entries after the cursor)
+ */
+public class BalanceCheckpoint {
+
+    private final UUID id;
+    private final UUID accountId;
+    private final LocalDateTime lastEntryCreatedAt;
+    private final UUID lastEntryId;
+    private final Money runningSum;
+    private final long entryCount;
+    private final LocalDateTime createdAt;
+
+    private BalanceCheckpoint(
+            UUID id,
+            UUID accountId,
+            LocalDateTime lastEntryCreatedAt,
+            UUID lastEntryId,
+            Money runningSum,
+            long entryCount,
+            LocalDateTime createdAt) {
+        this.id = Objects.requireNonNull(id, "Checkpoint ID cannot be null");
+        this.accountId = Objects.requireNonNull(accountId, "Account ID cannot be null");
+        this.lastEntryCreatedAt = Objects.requireNonNull(lastEntryCreatedAt, "Last entry timestamp cannot be null");
+        this.lastEntryId = Objects.requireNonNull(lastEntryId, "Last entry ID cannot be null");
+        this.runningSum = Objects.requireNonNull(runningSum, "Running sum cannot be null");
+        this.createdAt = Objects.requireNonNull(createdAt, "Created timestamp cannot be null");
+
+        if (entryCount <= 0)
+            throw new IllegalArgumentException("Checkpoint must cover at least one entry");
+        this.entryCount = entryCount;
+    }
+
+    /**
+     * Creates the first checkpoint of an account
+     * 
+     * @param accountId          Account being checkpointed
+     * @param sum                SUM(amount) of the covered entries
+     * @param count              Number of covered entries
+     * @param lastEntryCreatedAt Timestamp of the last covered entry
+     * @param lastEntryId        ID of the last covered entry
+     * @return Checkpoint whose cursor is the last covered entry
+     */
+    public static BalanceCheckpoint create(
+            UUID accountId,
+            Money sum,
+            long count,
+            LocalDateTime lastEntryCreatedAt,
+            UUID lastEntryId) {
+        return cover(accountId, Money.zero(), 0, sum, count, lastEntryCreatedAt, lastEntryId);
+    }
+
+    /**
+     * Reconstitutes a checkpoint from persistence
+     */
+    public static BalanceCheckpoint reconstitute(
+            UUID id,
+            UUID accountId,
+            LocalDateTime lastEntryCreatedAt,
+            UUID lastEntryId,
+            Money runningSum,
+            long entryCount,
+            LocalDateTime createdAt) {
+        return new BalanceCheckpoint(id, accountId, lastEntryCreatedAt, lastEntryId, runningSum, entryCount,
+                createdAt);
+    }
+
+    /**
+     * Creates the next checkpoint by adding the aggregate of the entries that
+     * came after this one. This checkpoint is left untouched (append-only).
+     * 
+     * @param tailSum            SUM(amount) of the entries after the cursor
+     * @param tailCount          Number of entries after the cursor
+     * @param lastEntryCreatedAt Timestamp of the last entry of the tail
+     * @param lastEntryId        ID of the last entry of the tail
+     * @return New checkpoint whose cursor is the last entry of the tail
+     */
+    public BalanceCheckpoint advance(
+            Money tailSum,
+            long tailCount,
+            LocalDateTime lastEntryCreatedAt,
+            UUID lastEntryId) {
+        Objects.requireNonNull(lastEntryCreatedAt, "Last entry timestamp cannot be null");
+        Objects.requireNonNull(lastEntryId, "Last entry ID cannot be null");
+
+        int order = lastEntryCreatedAt.compareTo(this.lastEntryCreatedAt);
+        if (order < 0 || (order == 0 && lastEntryId.equals(this.lastEntryId)))
+            throw new IllegalArgumentException("Tail must end after the checkpoint cursor");
+
+        return cover(accountId, runningSum, entryCount, tailSum, tailCount, lastEntryCreatedAt, lastEntryId);
+    }
+
+    private static BalanceCheckpoint cover(
+            UUID accountId,
+            Money openingSum,
+            long openingCount,
+            Money sum,
+            long count,
+            LocalDateTime lastEntryCreatedAt,
+            UUID lastEntryId) {
+        Objects.requireNonNull(sum, "Sum cannot be null");
+
+        if (count <= 0)
+            throw new IllegalArgumentException("Cannot checkpoint an empty range of entries");
+
+        return new BalanceCheckpoint(
+                UUID.randomUUID(),
+                accountId,
+                lastEntryCreatedAt,
+                lastEntryId,
+                openingSum.add(sum),
+                openingCount + count,
+                LocalDateTime.now());
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public LocalDateTime getLastEntryCreatedAt() {
+        return lastEntryCreatedAt;
+    }
+
+    public UUID getLastEntryId() {
+        return lastEntryId;
+    }
+
+    public Money getRunningSum() {
+        return runningSum;
+    }
+
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        BalanceCheckpoint that = (BalanceCheckpoint) o;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BalanceCheckpoint[id=%s, account=%s, runningSum=%s, entryCount=%d, lastEntry=%s]",
+                id, accountId, runningSum, entryCount, lastEntryId);
+    }
+}
@@ -55,6 +55,23 @@ public class Operation {
                 null);
     }
 
+    /**
+     * Creates a new operation directly in PROCESSED status
+     * Used when the operation and its entries are written in the same
+     * transaction, so the row is inserted once in its final state
+     */
+    public static Operation createProcessed(ExternalReference externalReference, OperationType type) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Operation(
+                UUID.randomUUID(),
+                externalReference,
+                type,
+                OperationStatus.PROCESSED,
+                now,
+                now,
+                null);
+    }
+
     /**
      * Reconstitutes an operation from persistence
      */
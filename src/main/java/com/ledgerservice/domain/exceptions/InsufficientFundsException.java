@@ -0,0 +1,23 @@
+package com.ledgerservice.domain.exceptions;
+
+import com.ledgerservice.domain.valueobjects.Money;
+
+import java.util.UUID;
+
+/**
+ * Thrown when a debit would take an overdraft-protected account below zero
+ */
+public class InsufficientFundsException extends DomainException {
+
+    private final UUID accountId;
+
+    public InsufficientFundsException(UUID accountId, Money available, Money requested) {
+        super(String.format("Insufficient funds on account %s: available %s, requested %s",
+                accountId, available.getValue(), requested.getValue()));
+        this.accountId = accountId;
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+}
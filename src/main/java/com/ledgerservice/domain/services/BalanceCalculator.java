@@ -2,6 +2,7 @@ package com.ledgerservice.domain.services;
 
 import com.ledgerservice.domain.entities.Entry;
 import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.domain.valueobjects.MoneyAccumulator;
 
 import java.util.List;
 import java.util.Objects;
@@ -14,6 +15,8 @@ import java.util.Objects;
  * - Auditability (balance is derived from immutable facts)
  * - Consistency (impossible to have divergent balance)
  * - Time-travel (can calculate balance at any point in history)
+ * 
+ * Sums run through a MoneyAccumulator: no Money is allocated per entry.
  */
 public class BalanceCalculator {
 
@@ -26,9 +29,10 @@ public class BalanceCalculator {
     public Money calculateBalance(List<Entry> entries) {
         Objects.requireNonNull(entries, "Entries list cannot be null");
 
-        return entries.stream()
-                .map(Entry::getAmount)
-                .reduce(Money.zero(), Money::add);
+        MoneyAccumulator balance = MoneyAccumulator.zero();
+        for (Entry entry : entries)
+            balance.add(entry.getAmount());
+        return balance.toMoney();
     }
 
     /**
@@ -43,10 +47,12 @@ public class BalanceCalculator {
         Objects.requireNonNull(entries, "Entries list cannot be null");
         Objects.requireNonNull(upTo, "Cutoff time cannot be null");
 
-        return entries.stream()
-                .filter(entry -> !entry.getCreatedAt().isAfter(upTo))
-                .map(Entry::getAmount)
-                .reduce(Money.zero(), Money::add);
+        MoneyAccumulator balance = MoneyAccumulator.zero();
+        for (Entry entry : entries) {
+            if (!entry.getCreatedAt().isAfter(upTo))
+                balance.add(entry.getAmount());
+        }
+        return balance.toMoney();
     }
 
     /**
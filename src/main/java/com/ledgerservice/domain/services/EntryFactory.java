@@ -2,8 +2,11 @@ package com.ledgerservice.domain.services;
 
 import com.ledgerservice.domain.entities.Entry;
 import com.ledgerservice.domain.enums.Direction;
+import com.ledgerservice.domain.enums.OperationType;
 import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.domain.valueobjects.MoneyAccumulator;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -74,6 +77,32 @@ public class EntryFactory {
                 source);
     }
 
+    /**
+     * Creates the entries generated by an operation
+     * - DEPOSIT: credit on target
+     * - WITHDRAWAL: debit on source
+     * - TRANSFER: debit on source + credit on target
+     */
+    public List<Entry> createOperationEntries(
+            UUID operationId,
+            OperationType type,
+            UUID sourceAccountId,
+            UUID targetAccountId,
+            Money amount,
+            String source) {
+        Objects.requireNonNull(type, "Operation type cannot be null");
+
+        return switch (type) {
+            case DEPOSIT -> List.of(
+                    createCreditEntry(operationId, targetAccountId, amount, "deposit", source));
+            case WITHDRAWAL -> List.of(
+                    createDebitEntry(operationId, sourceAccountId, amount, "withdrawal", source));
+            case TRANSFER -> List.of(
+                    createDebitEntry(operationId, sourceAccountId, amount, "transfer_out", source),
+                    createCreditEntry(operationId, targetAccountId, amount, "transfer_in", source));
+        };
+    }
+
     /**
      * Validates that double-entry bookkeeping rule is satisfied
      * Sum of all entry amounts must equal zero (conservation law)
@@ -84,9 +113,9 @@ public class EntryFactory {
         if (entries == null || entries.length == 0)
             return false;
 
-        Money sum = Money.zero();
+        MoneyAccumulator sum = MoneyAccumulator.zero();
         for (Entry entry : entries) {
-            sum = sum.add(entry.getAmount());
+            sum.add(entry.getAmount());
         }
 
         return sum.isZero();
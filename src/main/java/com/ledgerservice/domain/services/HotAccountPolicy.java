@@ -0,0 +1,81 @@
+package com.ledgerservice.domain.services;
+
+import com.ledgerservice.domain.enums.AccountType;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Domain service for hot accounts (e.g. SYSTEM, TRANSIT), which take part in
+ * nearly every operation
+ *
+ * The running balance of a hot account is split into shards: every write
+ * adds to one shard picked at random, and the balance is the sum of every
+ * shard. Writers of the same hot account therefore do not wait on each other.
+ *
+ * Opt-in per account type. Hot accounts are not serialized per account, so
+ * they cannot be overdraft-protected: their balance is never checked while
+ * writing.
+ */
+public class HotAccountPolicy {
+
+    /**
+     * Shard of every account that is not hot
+     * Hot accounts write to shards 1..shards
+     */
+    public static final int MAIN_SHARD = 0;
+
+    private final Set<AccountType> shardedTypes;
+    private final int shards;
+
+    public HotAccountPolicy(Set<AccountType> shardedTypes, int shards) {
+        Objects.requireNonNull(shardedTypes, "Sharded account types cannot be null");
+        if (shards <= 0)
+            throw new IllegalArgumentException("Shard count must be positive");
+        this.shardedTypes = shardedTypes.isEmpty()
+                ? EnumSet.noneOf(AccountType.class)
+                : EnumSet.copyOf(shardedTypes);
+        this.shards = shards;
+    }
+
+    /**
+     * Policy that never shards an account
+     */
+    public static HotAccountPolicy disabled() {
+        return new HotAccountPolicy(Set.of(), 1);
+    }
+
+    /**
+     * Checks if accounts of this type have a sharded running balance
+     */
+    public boolean isSharded(AccountType type) {
+        return type != null && shardedTypes.contains(type);
+    }
+
+    /**
+     * Accounts of the map whose type is sharded
+     */
+    public Set<UUID> shardedAccounts(Map<UUID, AccountType> accountTypes) {
+        Objects.requireNonNull(accountTypes, "Account types cannot be null");
+        return accountTypes.entrySet().stream()
+                .filter(account -> isSharded(account.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Shard a write to a hot account goes to, between 1 and shards()
+     */
+    public int pickShard() {
+        return 1 + ThreadLocalRandom.current().nextInt(shards);
+    }
+
+    public int shards() {
+        return shards;
+    }
+}
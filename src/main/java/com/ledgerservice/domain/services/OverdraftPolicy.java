@@ -0,0 +1,61 @@
+package com.ledgerservice.domain.services;
+
+import com.ledgerservice.domain.enums.AccountType;
+import com.ledgerservice.domain.exceptions.InsufficientFundsException;
+import com.ledgerservice.domain.valueobjects.Money;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Domain service for the "sufficient funds" rule
+ * Opt-in per account type: accounts of other types may go negative
+ */
+public class OverdraftPolicy {
+
+    private final Set<AccountType> protectedTypes;
+
+    public OverdraftPolicy(Set<AccountType> protectedTypes) {
+        Objects.requireNonNull(protectedTypes, "Protected account types cannot be null");
+        this.protectedTypes = protectedTypes.isEmpty()
+                ? EnumSet.noneOf(AccountType.class)
+                : EnumSet.copyOf(protectedTypes);
+    }
+
+    /**
+     * Policy that never rejects a debit
+     */
+    public static OverdraftPolicy disabled() {
+        return new OverdraftPolicy(Set.of());
+    }
+
+    /**
+     * Checks if debits on this account type require available funds
+     */
+    public boolean isProtected(AccountType type) {
+        return type != null && protectedTypes.contains(type);
+    }
+
+    /**
+     * Checks if any account type is protected
+     */
+    public boolean isEnabled() {
+        return !protectedTypes.isEmpty();
+    }
+
+    /**
+     * Rejects the debit if it would take a protected account below zero
+     * 
+     * @param available current balance of the account
+     * @param debit     positive amount leaving the account
+     */
+    public void checkDebit(UUID accountId, AccountType type, Money available, Money debit) {
+        Objects.requireNonNull(available, "Available balance cannot be null");
+        Objects.requireNonNull(debit, "Debit amount cannot be null");
+
+        if (isProtected(type) && available.subtract(debit).isNegative())
+            throw new InsufficientFundsException(accountId, available, debit);
+    }
+}
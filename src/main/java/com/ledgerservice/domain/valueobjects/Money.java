@@ -8,17 +8,22 @@ import java.util.Objects;
 /**
  * Value Object representing monetary value
  * Immutable and self-validating
+ * 
+ * Stored as a long count of ten-thousandths (the database NUMERIC(19,4)
+ * scale), so arithmetic never allocates a BigDecimal: add, subtract and
+ * negate are overflow-checked long operations. BigDecimal is only built at
+ * the edges (getValue() for persistence and the API).
  */
 public final class Money {
 
-    private static final Currency DEFAULT_CURRENCY = Currency.getInstance("BRL");
-    private static final int SCALE = 4; // Match database DECIMAL(19,4)
+    static final Currency DEFAULT_CURRENCY = Currency.getInstance("BRL");
+    static final int SCALE = 4; // Match database DECIMAL(19,4)
 
-    private final BigDecimal value;
+    private final long units;
     private final Currency currency;
 
-    private Money(BigDecimal value, Currency currency) {
-        this.value = value.setScale(SCALE, RoundingMode.HALF_UP);
+    private Money(long units, Currency currency) {
+        this.units = units;
         this.currency = currency;
     }
 
@@ -31,11 +36,29 @@ public final class Money {
 
     /**
      * Creates Money with specified currency
+     * The value is rounded (HALF_UP) to 4 decimal places
+     * 
+     * @throws IllegalArgumentException if the value does not fit in 64-bit units
      */
     public static Money of(BigDecimal value, Currency currency) {
         Objects.requireNonNull(value, "Value cannot be null");
         Objects.requireNonNull(currency, "Currency cannot be null");
-        return new Money(value, currency);
+        return new Money(toUnits(value), currency);
+    }
+
+    /**
+     * Creates Money from a count of ten-thousandths, with default currency
+     */
+    public static Money ofUnits(long units) {
+        return ofUnits(units, DEFAULT_CURRENCY);
+    }
+
+    /**
+     * Creates Money from a count of ten-thousandths, with specified currency
+     */
+    public static Money ofUnits(long units, Currency currency) {
+        Objects.requireNonNull(currency, "Currency cannot be null");
+        return new Money(units, currency);
     }
 
     /**
@@ -50,71 +73,102 @@ public final class Money {
      * Creates zero money
      */
     public static Money zero() {
-        return of(BigDecimal.ZERO);
+        return new Money(0, DEFAULT_CURRENCY);
     }
 
     /**
      * Checks if this money is positive
      */
     public boolean isPositive() {
-        return value.compareTo(BigDecimal.ZERO) > 0;
+        return units > 0;
     }
 
     /**
      * Checks if this money is negative
      */
     public boolean isNegative() {
-        return value.compareTo(BigDecimal.ZERO) < 0;
+        return units < 0;
     }
 
     /**
      * Checks if this money is zero
      */
     public boolean isZero() {
-        return value.compareTo(BigDecimal.ZERO) == 0;
+        return units == 0;
     }
 
     /**
      * Adds another money value
+     * 
+     * @throws ArithmeticException on overflow
      */
     public Money add(Money other) {
         validateSameCurrency(other);
-        return new Money(this.value.add(other.value), this.currency);
+        return new Money(Math.addExact(this.units, other.units), this.currency);
     }
 
     /**
      * Subtracts another money value
+     * 
+     * @throws ArithmeticException on overflow
      */
     public Money subtract(Money other) {
         validateSameCurrency(other);
-        return new Money(this.value.subtract(other.value), this.currency);
+        return new Money(Math.subtractExact(this.units, other.units), this.currency);
     }
 
     /**
      * Returns negated value
+     * 
+     * @throws ArithmeticException on overflow
      */
     public Money negate() {
-        return new Money(this.value.negate(), this.currency);
+        return new Money(Math.negateExact(this.units), this.currency);
     }
 
     /**
      * Returns absolute value
+     * 
+     * @throws ArithmeticException on overflow
      */
     public Money abs() {
-        return new Money(this.value.abs(), this.currency);
+        return units < 0 ? negate() : this;
     }
 
     private void validateSameCurrency(Money other) {
-        if (!this.currency.equals(other.currency)) {
+        validateSameCurrency(this.currency, other.currency);
+    }
+
+    static void validateSameCurrency(Currency currency, Currency other) {
+        if (!currency.equals(other)) {
             throw new IllegalArgumentException(
                     String.format("Cannot operate on different currencies: %s vs %s",
-                            this.currency.getCurrencyCode(),
-                            other.currency.getCurrencyCode()));
+                            currency.getCurrencyCode(),
+                            other.getCurrencyCode()));
         }
     }
 
+    private static long toUnits(BigDecimal value) {
+        try {
+            return value.setScale(SCALE, RoundingMode.HALF_UP).scaleByPowerOfTen(SCALE).longValueExact();
+        } catch (ArithmeticException ex) {
+            throw new IllegalArgumentException(
+                    String.format("Amount %s is out of the supported range", value.toPlainString()), ex);
+        }
+    }
+
+    /**
+     * Value as BigDecimal at scale 4 (allocated on every call)
+     */
     public BigDecimal getValue() {
-        return value;
+        return BigDecimal.valueOf(units, SCALE);
+    }
+
+    /**
+     * Value as a count of ten-thousandths
+     */
+    public long getUnits() {
+        return units;
     }
 
     public Currency getCurrency() {
@@ -128,16 +182,16 @@ public final class Money {
         if (o == null || getClass() != o.getClass())
             return false;
         Money money = (Money) o;
-        return value.compareTo(money.value) == 0 && currency.equals(money.currency);
+        return units == money.units && currency.equals(money.currency);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value, currency);
+        return 31 * Long.hashCode(units) + currency.hashCode();
     }
 
     @Override
     public String toString() {
-        return String.format("%s %s", currency.getCurrencyCode(), value.toPlainString());
+        return String.format("%s %s", currency.getCurrencyCode(), getValue().toPlainString());
     }
 }
\ No newline at end of file
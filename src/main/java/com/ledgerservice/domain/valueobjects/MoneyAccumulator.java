@@ -0,0 +1,64 @@
+package com.ledgerservice.domain.valueobjects;
+
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * Mutable running sum of Money values, for summation hot paths
+ * 
+ * Money.add allocates a new Money per term. The accumulator keeps the sum as
+ * a long count of ten-thousandths (Money.getUnits()), so adding a term
+ * allocates nothing.
+ * 
+ * Not thread-safe and meant to stay local to a method: convert back with
+ * toMoney() at the boundary.
+ */
+public final class MoneyAccumulator {
+
+    private final Currency currency;
+    private long units;
+
+    private MoneyAccumulator(Currency currency) {
+        this.currency = currency;
+    }
+
+    /**
+     * Starts from zero in the default currency
+     */
+    public static MoneyAccumulator zero() {
+        return new MoneyAccumulator(Money.DEFAULT_CURRENCY);
+    }
+
+    /**
+     * Starts from an opening balance, in its currency
+     */
+    public static MoneyAccumulator startingAt(Money opening) {
+        Objects.requireNonNull(opening, "Opening balance cannot be null");
+        return new MoneyAccumulator(opening.getCurrency()).add(opening);
+    }
+
+    /**
+     * Adds a money value
+     * 
+     * @throws ArithmeticException on overflow
+     */
+    public MoneyAccumulator add(Money money) {
+        Money.validateSameCurrency(currency, money.getCurrency());
+        units = Math.addExact(units, money.getUnits());
+        return this;
+    }
+
+    /**
+     * Checks if the running sum is zero
+     */
+    public boolean isZero() {
+        return units == 0;
+    }
+
+    /**
+     * Current sum as Money
+     */
+    public Money toMoney() {
+        return Money.ofUnits(units, currency);
+    }
+}
@@ -0,0 +1,47 @@
+package com.ledgerservice.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Stripe mapping and meters shared by every account lock mode
+ */
+final class AccountLockSupport {
+
+    private AccountLockSupport() {
+    }
+
+    /**
+     * Distinct stripes covering the accounts, in ascending order
+     * Every caller acquires in this order, which rules out lock cycles
+     */
+    static int[] sortedStripes(Collection<UUID> accountIds, int stripeCount) {
+        Objects.requireNonNull(accountIds, "Account IDs cannot be null");
+        return accountIds.stream()
+                .filter(Objects::nonNull)
+                .mapToInt(id -> Math.floorMod(id.hashCode(), stripeCount))
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    static Counter acquisitions(MeterRegistry meterRegistry, String mode) {
+        return Counter.builder("ledger.account_lock.acquisitions")
+                .description("Account lock stripes acquired")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+
+    static Timer waitTimer(MeterRegistry meterRegistry, String mode, int stripe) {
+        return Timer.builder("ledger.account_lock.wait")
+                .description("Time spent waiting for a contended account lock stripe")
+                .tag("mode", mode)
+                .tag("stripe", String.valueOf(stripe))
+                .register(meterRegistry);
+    }
+}
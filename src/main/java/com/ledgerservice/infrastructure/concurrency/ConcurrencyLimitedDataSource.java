@@ -0,0 +1,102 @@
+package com.ledgerservice.infrastructure.concurrency;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource taking a DatabaseConcurrencyLimiter permit for every borrowed
+ * connection
+ *
+ * The permit is released when the connection is closed (returned to the
+ * pool), once, however many times close() is called.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final DatabaseConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitedDataSource(DataSource target, DatabaseConcurrencyLimiter limiter) {
+        super(target);
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        limiter.acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            limiter.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        limiter.acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            limiter.release();
+            throw ex;
+        }
+    }
+
+    public DatabaseConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    private Connection limited(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new PermitReleasingHandler(connection, limiter));
+    }
+
+    private static final class PermitReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final DatabaseConcurrencyLimiter limiter;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitReleasingHandler(Connection target, DatabaseConcurrencyLimiter limiter) {
+            this.target = target;
+            this.limiter = limiter;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "close" -> {
+                    try {
+                        target.close();
+                    } finally {
+                        if (released.compareAndSet(false, true))
+                            limiter.release();
+                    }
+                    return null;
+                }
+                default -> {
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.ledgerservice.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounds the number of threads holding a database connection
+ *
+ * With virtual threads, thousands of requests can reach the persistence layer
+ * at once. Each one takes a permit before borrowing a connection and gives it
+ * back when the connection is closed. With permits sized to the connection
+ * pool, the excess requests wait here, in a fair FIFO queue that is cheap to
+ * park on, instead of racing inside the pool for the next free connection.
+ *
+ * GUARANTEES:
+ * - At most permits connections are borrowed at the same time
+ * - Waiters are served in arrival order
+ * - A waiter gives up after the acquire timeout with
+ * SQLTransientConnectionException, the same error a pool timeout raises
+ *
+ * Metrics (bound as a MeterBinder, the limiter wraps the DataSource before
+ * the registry exists):
+ * - ledger.db_limiter.waiting: threads waiting for a permit
+ * - ledger.db_limiter.wait: time spent waiting, only recorded when the permit
+ * was not immediately available
+ * - ledger.db_limiter.timeouts: waiters that gave up
+ */
+public class DatabaseConcurrencyLimiter implements MeterBinder {
+
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final long acquireTimeoutNanos;
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public DatabaseConcurrencyLimiter(int maxConcurrency, Duration acquireTimeout) {
+        if (maxConcurrency <= 0)
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        if (acquireTimeout.isNegative() || acquireTimeout.isZero())
+            throw new IllegalArgumentException("Acquire timeout must be positive");
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("ledger.db_limiter.waiting", permits, Semaphore::getQueueLength)
+                .description("Threads waiting for a database permit")
+                .register(meterRegistry);
+        FunctionTimer.builder("ledger.db_limiter.wait", this,
+                limiter -> limiter.waits.sum(),
+                limiter -> limiter.waitNanos.sum(),
+                TimeUnit.NANOSECONDS)
+                .description("Time spent waiting for a database permit")
+                .register(meterRegistry);
+        FunctionCounter.builder("ledger.db_limiter.timeouts", timeouts, LongAdder::sum)
+                .description("Threads that gave up waiting for a database permit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Blocks until a permit is available; release() must follow
+     *
+     * @throws SQLTransientConnectionException when the timeout elapses first
+     */
+    public void acquire() throws SQLTransientConnectionException {
+        // tryAcquire() barges ahead of waiters; only take the fast path when
+        // nobody is queued so the queue stays FIFO
+        if (!permits.hasQueuedThreads() && permits.tryAcquire())
+            return;
+
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", ex);
+        }
+        waits.increment();
+        waitNanos.add(System.nanoTime() - start);
+
+        if (!acquired) {
+            timeouts.increment();
+            throw new SQLTransientConnectionException(String.format(
+                    "No database permit available after %d ms (%d in use)",
+                    TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos), maxConcurrency));
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+}
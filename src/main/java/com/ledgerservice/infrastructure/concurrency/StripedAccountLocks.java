@@ -0,0 +1,106 @@
+package com.ledgerservice.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed pool of JVM-local locks, one per stripe of the account id space
+ * 
+ * GUARANTEES:
+ * - Two operations touching a common account never hold its stripe together
+ * - Deadlock-free: stripes of one acquisition are taken in ascending order
+ * - Memory bounded by the stripe count, not by the number of accounts
+ * 
+ * Accounts sharing a stripe serialize with each other; more stripes mean
+ * fewer false conflicts.
+ * 
+ * Metrics (tagged mode=striped):
+ * - ledger.account_lock.acquisitions: every stripe acquired
+ * - ledger.account_lock.wait (stripe=N): time spent waiting on a contended
+ * stripe, registered the first time the stripe is contended; its count is
+ * the contention count of the stripe
+ */
+public class StripedAccountLocks {
+
+    static final String MODE_TAG = "striped";
+
+    private final ReentrantLock[] locks;
+    private final MeterRegistry meterRegistry;
+    private final Counter acquisitions;
+    private final AtomicReferenceArray<Timer> waitTimers;
+
+    public StripedAccountLocks(int stripes, MeterRegistry meterRegistry) {
+        if (stripes <= 0)
+            throw new IllegalArgumentException("Stripe count must be positive");
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.meterRegistry = meterRegistry;
+        this.acquisitions = AccountLockSupport.acquisitions(meterRegistry, MODE_TAG);
+        this.waitTimers = new AtomicReferenceArray<>(stripes);
+    }
+
+    /**
+     * Blocks until every stripe covering the accounts is held by this thread
+     * The returned lease must be closed by the same thread
+     */
+    public Lease acquire(Collection<UUID> accountIds) {
+        int[] stripes = AccountLockSupport.sortedStripes(accountIds, locks.length);
+
+        for (int stripe : stripes) {
+            ReentrantLock lock = locks[stripe];
+            if (!lock.tryLock()) {
+                long start = System.nanoTime();
+                lock.lock();
+                waitTimer(stripe).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            acquisitions.increment();
+        }
+
+        return new Lease(stripes);
+    }
+
+    public int stripeCount() {
+        return locks.length;
+    }
+
+    private Timer waitTimer(int stripe) {
+        Timer timer = waitTimers.get(stripe);
+        if (timer == null) {
+            timer = AccountLockSupport.waitTimer(meterRegistry, MODE_TAG, stripe);
+            waitTimers.set(stripe, timer);
+        }
+        return timer;
+    }
+
+    /**
+     * Stripes held by one acquisition, released in reverse order
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final int[] stripes;
+        private boolean released;
+
+        private Lease(int[] stripes) {
+            this.stripes = stripes;
+        }
+
+        @Override
+        public void close() {
+            if (released)
+                return;
+            released = true;
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                locks[stripes[i]].unlock();
+            }
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.ledgerservice.infrastructure.config;
 
+import com.ledgerservice.domain.enums.AccountType;
 import com.ledgerservice.domain.services.BalanceCalculator;
 import com.ledgerservice.domain.services.EntryFactory;
+import com.ledgerservice.domain.services.HotAccountPolicy;
+import com.ledgerservice.domain.services.OverdraftPolicy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Set;
+
 /**
  * Configuration for domain services
  * Makes pure domain services available as Spring beans
@@ -21,4 +27,27 @@ public class DomainConfig {
     public EntryFactory entryFactory() {
         return new EntryFactory();
     }
+
+    @Bean
+    public OverdraftPolicy overdraftPolicy(
+            @Value("${ledger.overdraft.protected-account-types:}") Set<AccountType> protectedTypes) {
+        return new OverdraftPolicy(protectedTypes);
+    }
+
+    /**
+     * Hot accounts skip the per-account serialization that overdraft checks
+     * rely on, so a type cannot be both sharded and protected
+     */
+    @Bean
+    public HotAccountPolicy hotAccountPolicy(
+            OverdraftPolicy overdraftPolicy,
+            @Value("${ledger.hot-accounts.account-types:}") Set<AccountType> shardedTypes,
+            @Value("${ledger.hot-accounts.shards:16}") int shards) {
+        for (AccountType type : shardedTypes) {
+            if (overdraftPolicy.isProtected(type))
+                throw new IllegalStateException(
+                        "Account type " + type + " cannot be both a hot account type and overdraft-protected");
+        }
+        return new HotAccountPolicy(shardedTypes, shards);
+    }
 }
\ No newline at end of file
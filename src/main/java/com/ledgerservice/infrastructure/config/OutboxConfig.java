@@ -0,0 +1,29 @@
+package com.ledgerservice.infrastructure.config;
+
+import com.ledgerservice.infrastructure.outbox.FileOutboxEventSink;
+import com.ledgerservice.infrastructure.outbox.InMemoryOutboxEventSink;
+import com.ledgerservice.infrastructure.outbox.OutboxEventSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration for the transactional outbox
+ * Selects the sink (ledger.outbox.sink)
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    public OutboxEventSink outboxEventSink(
+            @Value("${ledger.outbox.sink:MEMORY}") OutboxEventSink.Type type,
+            @Value("${ledger.outbox.memory.capacity:10000}") int capacity,
+            @Value("${ledger.outbox.file.path:outbox-events.ndjson}") Path file) {
+        return switch (type) {
+            case MEMORY -> new InMemoryOutboxEventSink(capacity);
+            case FILE -> new FileOutboxEventSink(file);
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.ledgerservice.infrastructure.config;
+
+import com.ledgerservice.infrastructure.concurrency.ConcurrencyLimitedDataSource;
+import com.ledgerservice.infrastructure.concurrency.DatabaseConcurrencyLimiter;
+import com.ledgerservice.infrastructure.persistence.metrics.StatementCountingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Configuration for database access
+ */
+@Configuration
+public class PersistenceConfig {
+
+    /**
+     * Wraps the DataSource so statements of every layer reach StatementCounter
+     */
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource))
+                    return new StatementCountingDataSource(dataSource);
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Sized to the Hikari pool unless ledger.db-limiter.max-concurrency is set
+     */
+    @Bean
+    public DatabaseConcurrencyLimiter databaseConcurrencyLimiter(
+            @Value("${ledger.db-limiter.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrency,
+            @Value("${ledger.db-limiter.acquire-timeout:30s}") Duration acquireTimeout) {
+        return new DatabaseConcurrencyLimiter(maxConcurrency, acquireTimeout);
+    }
+
+    /**
+     * Wraps the DataSource so every borrowed connection holds a limiter permit
+     * (ledger.db-limiter.enabled)
+     */
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+            @Value("${ledger.db-limiter.enabled:true}") boolean enabled,
+            ObjectProvider<DatabaseConcurrencyLimiter> limiter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof DataSource dataSource
+                        && !(bean instanceof ConcurrencyLimitedDataSource))
+                    return new ConcurrencyLimitedDataSource(dataSource, limiter.getObject());
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package com.ledgerservice.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration for scheduled jobs
+ * Enables @Scheduled for the whole application (outbox relay, entries
+ * partition maintenance)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
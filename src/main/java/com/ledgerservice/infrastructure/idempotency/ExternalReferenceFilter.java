@@ -0,0 +1,113 @@
+package com.ledgerservice.infrastructure.idempotency;
+
+import com.ledgerservice.domain.valueobjects.ExternalReference;
+import com.ledgerservice.infrastructure.persistence.repositories.OperationJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Probabilistic filter of the external references already stored in the
+ * operations table
+ * 
+ * Most operations are first-seen, so their idempotency SELECT always comes
+ * back empty. When the filter says a reference is definitely new, callers skip
+ * that SELECT and rely on the unique index (DataIntegrityViolationException)
+ * as the safety net.
+ * 
+ * GUARANTEES:
+ * - Conservative until warmed: every reference "might exist" until the whole
+ * operations table has been loaded at startup
+ * - References inserted by this instance are added after commit; the unique
+ * index covers inserts by other instances and the window before the add
+ * 
+ * Metrics: ledger.idempotency.filter.fill_ratio,
+ * ledger.idempotency.filter.skipped_lookups
+ */
+@Component
+public class ExternalReferenceFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ExternalReferenceFilter.class);
+
+    private final OperationJpaRepository operationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final BloomFilter filter;
+    private final Counter skippedLookups;
+    private volatile boolean warmed;
+
+    public ExternalReferenceFilter(
+            OperationJpaRepository operationRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${ledger.idempotency.filter.enabled:true}") boolean enabled,
+            @Value("${ledger.idempotency.filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${ledger.idempotency.filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.operationRepository = operationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        Gauge.builder("ledger.idempotency.filter.fill_ratio", filter, BloomFilter::fillRatio)
+                .description("Fraction of Bloom filter bits set")
+                .register(meterRegistry);
+        this.skippedLookups = Counter.builder("ledger.idempotency.filter.skipped_lookups")
+                .description("Idempotency SELECTs skipped because the reference was definitely new")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads every stored external reference, streaming the operations table
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled)
+            return;
+
+        long started = System.currentTimeMillis();
+        AtomicLong loaded = new AtomicLong();
+
+        transactionTemplate.execute(status -> {
+            try (var references = operationRepository.streamAllExternalReferences()) {
+                references.forEach(reference -> {
+                    filter.put(reference);
+                    loaded.incrementAndGet();
+                });
+            }
+            return null;
+        });
+
+        warmed = true;
+        log.info("External reference filter warmed: {} references in {}ms, fill ratio {}",
+                loaded.get(), System.currentTimeMillis() - started, String.format("%.4f", filter.fillRatio()));
+    }
+
+    /**
+     * True when the reference is certainly not stored yet, so the idempotency
+     * SELECT can be skipped
+     */
+    public boolean isDefinitelyNew(ExternalReference externalReference) {
+        if (!enabled || !warmed)
+            return false;
+        boolean definitelyNew = !filter.mightContain(externalReference.getValue());
+        if (definitelyNew)
+            skippedLookups.increment();
+        return definitelyNew;
+    }
+
+    /**
+     * Records a reference that has just been committed
+     */
+    public void add(ExternalReference externalReference) {
+        if (enabled)
+            filter.put(externalReference.getValue());
+    }
+}
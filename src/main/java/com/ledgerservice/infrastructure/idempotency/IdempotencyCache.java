@@ -0,0 +1,106 @@
+package com.ledgerservice.infrastructure.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ledgerservice.domain.entities.Operation;
+import com.ledgerservice.domain.enums.OperationStatus;
+import com.ledgerservice.domain.enums.OperationType;
+import com.ledgerservice.domain.valueobjects.ExternalReference;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded in-memory cache of processed operations, keyed by external reference
+ * 
+ * Webhook retries usually arrive within seconds of the original request, so
+ * they can be answered without borrowing a JDBC connection.
+ * 
+ * GUARANTEES:
+ * - Only terminal operations (PROCESSED) are cached; they never change, so a
+ * hit can be returned as is
+ * - Entries expire after the configured TTL and the cache never grows past
+ * its maximum size
+ * - A miss is never authoritative: callers fall back to the database
+ * 
+ * Metrics: cache.gets (result=hit|miss), cache.evictions, cache.size with
+ * cache=idempotency
+ */
+@Component
+public class IdempotencyCache {
+
+    private final boolean enabled;
+    private final Cache<String, CachedOperation> cache;
+
+    public IdempotencyCache(
+            MeterRegistry meterRegistry,
+            @Value("${ledger.idempotency.cache.enabled:true}") boolean enabled,
+            @Value("${ledger.idempotency.cache.max-size:100000}") long maxSize,
+            @Value("${ledger.idempotency.cache.ttl:10m}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "idempotency");
+    }
+
+    /**
+     * Returns the processed operation for this external reference, if cached
+     */
+    public Optional<Operation> find(ExternalReference externalReference) {
+        if (!enabled)
+            return Optional.empty();
+        return Optional.ofNullable(cache.getIfPresent(externalReference.getValue()))
+                .map(cached -> cached.toDomain(externalReference));
+    }
+
+    /**
+     * Caches the operation if it reached a terminal state, ignores it otherwise
+     */
+    public void put(Operation operation) {
+        Objects.requireNonNull(operation, "Operation cannot be null");
+        if (!enabled || !operation.isProcessed())
+            return;
+        cache.put(operation.getExternalReference().getValue(), CachedOperation.from(operation));
+    }
+
+    /**
+     * Drops every cached operation (e.g. after operations are deleted)
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Immutable snapshot of a processed operation
+     */
+    private record CachedOperation(
+            UUID id,
+            OperationType type,
+            OperationStatus status,
+            LocalDateTime createdAt,
+            LocalDateTime processedAt) {
+
+        static CachedOperation from(Operation operation) {
+            return new CachedOperation(
+                    operation.getId(),
+                    operation.getType(),
+                    operation.getStatus(),
+                    operation.getCreatedAt(),
+                    operation.getProcessedAt());
+        }
+
+        Operation toDomain(ExternalReference externalReference) {
+            return Operation.reconstitute(id, externalReference, type, status, createdAt, processedAt, null);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.ledgerservice.infrastructure.observability;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Minimal JSON object writer for structured events
+ *
+ * Reuses one StringBuilder, so it is not thread-safe: the event consumer owns
+ * one instance. Values are written as strings except numbers; nulls are
+ * written as null.
+ */
+public final class EventJsonWriter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final StringBuilder json = new StringBuilder(256);
+    private boolean firstField;
+
+    /**
+     * Starts a new object with the envelope fields of an event
+     */
+    public EventJsonWriter begin(StructuredEvent event, String correlationId, long timestampMillis) {
+        json.setLength(0);
+        json.append('{');
+        firstField = true;
+        return field("timestamp", Instant.ofEpochMilli(timestampMillis).toString())
+                .field("event", event.name())
+                .field("correlationId", correlationId);
+    }
+
+    public EventJsonWriter field(String name, String value) {
+        name(name);
+        if (value == null)
+            json.append("null");
+        else
+            string(value);
+        return this;
+    }
+
+    public EventJsonWriter field(String name, UUID value) {
+        return field(name, value != null ? value.toString() : null);
+    }
+
+    public EventJsonWriter field(String name, BigDecimal value) {
+        name(name);
+        json.append(value != null ? value.toPlainString() : "null");
+        return this;
+    }
+
+    public EventJsonWriter field(String name, long value) {
+        name(name);
+        json.append(value);
+        return this;
+    }
+
+    /**
+     * Closes the object and returns it
+     */
+    public String end() {
+        return json.append('}').toString();
+    }
+
+    private void name(String name) {
+        if (!firstField)
+            json.append(',');
+        firstField = false;
+        string(name);
+        json.append(':');
+    }
+
+    private void string(String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20)
+                        json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    else
+                        json.append(c);
+                }
+            }
+        }
+        json.append('"');
+    }
+}
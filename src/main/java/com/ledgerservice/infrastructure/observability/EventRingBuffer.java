@@ -0,0 +1,133 @@
+package com.ledgerservice.infrastructure.observability;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer, single-consumer ring buffer of structured events
+ *
+ * GUARANTEES:
+ * - Lock-free publish: a producer claims a slot with one CAS on the tail and
+ * never waits on another producer or on the consumer
+ * - Never blocks when full: tryPublish returns false and the caller decides
+ * what to do with the event
+ * - Events are consumed in claim order
+ *
+ * Slots are allocated once and reused, so publishing only stores references.
+ * Each slot has a sequence number (Vyukov bounded queue): it equals the slot
+ * position when free, position + 1 once published, and moves one lap ahead
+ * (position + capacity) when consumed. drain must only be called from one
+ * thread.
+ */
+public final class EventRingBuffer {
+
+    private final Slot[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * @param capacity rounded up to the next power of two
+     */
+    public EventRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30)
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity)
+            size <<= 1;
+
+        this.slots = new Slot[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Publishes an event, or returns false when the buffer is full
+     */
+    public boolean tryPublish(StructuredEvent event, String correlationId, long timestampMillis) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long sequence = sequences.get(index);
+
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    Slot slot = slots[index];
+                    slot.event = event;
+                    slot.correlationId = correlationId;
+                    slot.timestampMillis = timestampMillis;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (sequence < position) {
+                // Slot still holds the event from the previous lap: full
+                return false;
+            } else {
+                // Another producer claimed this position first
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Hands up to max published events to the handler, in order
+     * Single consumer only
+     *
+     * @return number of events consumed
+     */
+    public int drain(Handler handler, int max) {
+        long position = head;
+        int consumed = 0;
+
+        while (consumed < max) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1)
+                break;
+
+            Slot slot = slots[index];
+            StructuredEvent event = slot.event;
+            String correlationId = slot.correlationId;
+            long timestampMillis = slot.timestampMillis;
+            slot.event = null;
+            slot.correlationId = null;
+            sequences.set(index, position + slots.length);
+
+            position++;
+            consumed++;
+            head = position;
+            handler.handle(event, correlationId, timestampMillis);
+        }
+        return consumed;
+    }
+
+    /**
+     * Events published and not consumed yet (approximate while producers run)
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    @FunctionalInterface
+    public interface Handler {
+        void handle(StructuredEvent event, String correlationId, long timestampMillis);
+    }
+
+    // Written by the claiming producer before its sequence store, read by the
+    // consumer after the matching sequence load
+    private static final class Slot {
+        StructuredEvent event;
+        String correlationId;
+        long timestampMillis;
+    }
+}
@@ -0,0 +1,193 @@
+package com.ledgerservice.infrastructure.observability;
+
+import org.slf4j.event.Level;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Business events logged by StructuredLogger
+ *
+ * Events are plain records built on the request thread; names, levels and
+ * JSON are only produced by the consumer that writes them.
+ */
+public sealed interface StructuredEvent {
+
+    /**
+     * Event name, e.g. operation.received
+     */
+    String name();
+
+    Level level();
+
+    /**
+     * Human-readable prefix of the log line
+     */
+    String message();
+
+    void writeFields(EventJsonWriter json);
+
+    /**
+     * Exception logged with the event, null when none
+     */
+    default Throwable cause() {
+        return null;
+    }
+
+    record OperationReceived(String externalReference, String operationType, BigDecimal amount)
+            implements StructuredEvent {
+
+        public String name() {
+            return "operation.received";
+        }
+
+        public Level level() {
+            return Level.INFO;
+        }
+
+        public String message() {
+            return "Operation received";
+        }
+
+        public void writeFields(EventJsonWriter json) {
+            json.field("externalReference", externalReference)
+                    .field("operationType", operationType)
+                    .field("amount", amount);
+        }
+    }
+
+    record DuplicateDetected(String externalReference, UUID existingOperationId) implements StructuredEvent {
+
+        public String name() {
+            return "operation.duplicate_detected";
+        }
+
+        public Level level() {
+            return Level.INFO;
+        }
+
+        public String message() {
+            return "Duplicate operation detected";
+        }
+
+        public void writeFields(EventJsonWriter json) {
+            json.field("externalReference", externalReference)
+                    .field("existingOperationId", existingOperationId);
+        }
+    }
+
+    record OperationProcessed(UUID operationId, String externalReference, String operationType, BigDecimal amount)
+            implements StructuredEvent {
+
+        public String name() {
+            return "operation.processed";
+        }
+
+        public Level level() {
+            return Level.INFO;
+        }
+
+        public String message() {
+            return "Operation processed successfully";
+        }
+
+        public void writeFields(EventJsonWriter json) {
+            json.field("operationId", operationId)
+                    .field("externalReference", externalReference)
+                    .field("operationType", operationType)
+                    .field("amount", amount);
+        }
+    }
+
+    record OperationFailed(String externalReference, String reason, Exception exception)
+            implements StructuredEvent {
+
+        public String name() {
+            return "operation.failed";
+        }
+
+        public Level level() {
+            return Level.ERROR;
+        }
+
+        public String message() {
+            return "Operation failed";
+        }
+
+        public void writeFields(EventJsonWriter json) {
+            json.field("externalReference", externalReference)
+                    .field("reason", reason)
+                    .field("exceptionClass", exception.getClass().getSimpleName())
+                    .field("exceptionMessage", exception.getMessage());
+        }
+
+        @Override
+        public Throwable cause() {
+            return exception;
+        }
+    }
+
+    record ReconciliationMismatch(UUID accountId, BigDecimal expectedBalance, BigDecimal calculatedBalance,
+            BigDecimal difference) implements StructuredEvent {
+
+        public String name() {
+            return "reconciliation.mismatch";
+        }
+
+        public Level level() {
+            return Level.WARN;
+        }
+
+        public String message() {
+            return "Reconciliation mismatch detected";
+        }
+
+        public void writeFields(EventJsonWriter json) {
+            json.field("accountId", accountId)
+                    .field("expectedBalance", expectedBalance)
+                    .field("calculatedBalance", calculatedBalance)
+                    .field("difference", difference);
+        }
+    }
+
+    record ReconciliationMatch(UUID accountId, BigDecimal balance) implements StructuredEvent {
+
+        public String name() {
+            return "reconciliation.match";
+        }
+
+        public Level level() {
+            return Level.INFO;
+        }
+
+        public String message() {
+            return "Reconciliation match confirmed";
+        }
+
+        public void writeFields(EventJsonWriter json) {
+            json.field("accountId", accountId)
+                    .field("balance", balance);
+        }
+    }
+
+    record BalanceCalculated(UUID accountId, BigDecimal balance, int entriesCount) implements StructuredEvent {
+
+        public String name() {
+            return "balance.calculated";
+        }
+
+        public Level level() {
+            return Level.DEBUG;
+        }
+
+        public String message() {
+            return "Balance calculated";
+        }
+
+        public void writeFields(EventJsonWriter json) {
+            json.field("accountId", accountId)
+                    .field("balance", balance)
+                    .field("entriesCount", entriesCount);
+        }
+    }
+}
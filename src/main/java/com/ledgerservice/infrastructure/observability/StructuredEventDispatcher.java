@@ -0,0 +1,174 @@
+package com.ledgerservice.infrastructure.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes structured events off the request thread
+ *
+ * Request threads publish events to an EventRingBuffer; one background thread
+ * drains it, serializes each event to JSON and logs it under the
+ * StructuredLogger category, with the correlation ID captured at publish time
+ * restored in the MDC.
+ *
+ * When the buffer is full (overflow policy):
+ * - DROP: the event is discarded and counted, except ERROR events, which are
+ * always written on the caller thread
+ * - CALLER_RUNS: the event is written on the caller thread
+ *
+ * Metrics: ledger.logging.events (tagged result=queued, dropped, inline)
+ * and ledger.logging.events.backlog
+ */
+@Component
+public class StructuredEventDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(StructuredLogger.class);
+
+    private static final int DRAIN_BATCH = 256;
+    private static final long MAX_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final boolean async;
+    private final OverflowPolicy overflowPolicy;
+    private final EventRingBuffer buffer;
+    private final EventJsonWriter consumerJson = new EventJsonWriter();
+    private final Counter queued;
+    private final Counter dropped;
+    private final Counter inline;
+    private final Thread consumer;
+    private volatile boolean running = true;
+    private volatile boolean idle;
+
+    public StructuredEventDispatcher(
+            MeterRegistry meterRegistry,
+            @Value("${ledger.logging.events.async:true}") boolean async,
+            @Value("${ledger.logging.events.buffer-size:8192}") int bufferSize,
+            @Value("${ledger.logging.events.overflow:DROP}") OverflowPolicy overflowPolicy) {
+        this.async = async;
+        this.overflowPolicy = overflowPolicy;
+        this.buffer = new EventRingBuffer(bufferSize);
+        this.queued = counter(meterRegistry, "queued");
+        this.dropped = counter(meterRegistry, "dropped");
+        this.inline = counter(meterRegistry, "inline");
+        Gauge.builder("ledger.logging.events.backlog", buffer, EventRingBuffer::size)
+                .description("Structured events waiting to be written")
+                .register(meterRegistry);
+
+        this.consumer = Thread.ofPlatform()
+                .name("structured-event-writer")
+                .daemon(true)
+                .unstarted(this::consume);
+        if (async)
+            consumer.start();
+    }
+
+    /**
+     * Hands an event to the writer thread
+     * The caller only pays for the publish, unless the buffer is full
+     */
+    public void dispatch(StructuredEvent event) {
+        if (!log.isEnabledForLevel(event.level()))
+            return;
+
+        String correlationId = MDC.get(CorrelationIdFilter.CORRELATION_ID_MDC_KEY);
+        long timestampMillis = System.currentTimeMillis();
+
+        if (!async) {
+            write(event, correlationId, timestampMillis, new EventJsonWriter());
+            return;
+        }
+
+        if (buffer.tryPublish(event, correlationId, timestampMillis)) {
+            queued.increment();
+            if (idle)
+                LockSupport.unpark(consumer);
+            return;
+        }
+
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS || event.level() == Level.ERROR) {
+            inline.increment();
+            write(event, correlationId, timestampMillis, new EventJsonWriter());
+        } else {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Stops the writer thread after it wrote the events already published
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(consumer);
+        if (consumer.isAlive())
+            consumer.join(SHUTDOWN_TIMEOUT);
+    }
+
+    private void consume() {
+        EventRingBuffer.Handler handler = (event, correlationId, timestampMillis) -> write(event, correlationId,
+                timestampMillis, consumerJson);
+
+        while (running) {
+            if (buffer.drain(handler, DRAIN_BATCH) > 0)
+                continue;
+
+            idle = true;
+            // Re-check after advertising idleness so a publish in between is
+            // not left waiting for the timeout
+            if (buffer.size() == 0 && running)
+                LockSupport.parkNanos(this, MAX_IDLE_NANOS);
+            idle = false;
+        }
+
+        while (buffer.drain(handler, DRAIN_BATCH) > 0) {
+            // Write what was published before shutdown
+        }
+    }
+
+    private void write(StructuredEvent event, String correlationId, long timestampMillis, EventJsonWriter json) {
+        event.writeFields(json.begin(event, correlationId, timestampMillis));
+        String body = json.end();
+
+        String previousCorrelationId = MDC.get(CorrelationIdFilter.CORRELATION_ID_MDC_KEY);
+        if (correlationId != null)
+            MDC.put(CorrelationIdFilter.CORRELATION_ID_MDC_KEY, correlationId);
+        try {
+            switch (event.level()) {
+                case ERROR -> log.error("{}: {}", event.message(), body, event.cause());
+                case WARN -> log.warn("{}: {}", event.message(), body);
+                case INFO -> log.info("{}: {}", event.message(), body);
+                case DEBUG -> log.debug("{}: {}", event.message(), body);
+                case TRACE -> log.trace("{}: {}", event.message(), body);
+            }
+        } finally {
+            if (previousCorrelationId != null)
+                MDC.put(CorrelationIdFilter.CORRELATION_ID_MDC_KEY, previousCorrelationId);
+            else
+                MDC.remove(CorrelationIdFilter.CORRELATION_ID_MDC_KEY);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ledger.logging.events")
+                .description("Structured events by what happened on publish")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public enum OverflowPolicy {
+        DROP,
+        CALLER_RUNS
+    }
+}
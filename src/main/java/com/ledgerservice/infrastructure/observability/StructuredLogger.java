@@ -1,47 +1,47 @@
 package com.ledgerservice.infrastructure.observability;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.ledgerservice.infrastructure.observability.StructuredEvent.BalanceCalculated;
+import com.ledgerservice.infrastructure.observability.StructuredEvent.DuplicateDetected;
+import com.ledgerservice.infrastructure.observability.StructuredEvent.OperationFailed;
+import com.ledgerservice.infrastructure.observability.StructuredEvent.OperationProcessed;
+import com.ledgerservice.infrastructure.observability.StructuredEvent.OperationReceived;
+import com.ledgerservice.infrastructure.observability.StructuredEvent.ReconciliationMatch;
+import com.ledgerservice.infrastructure.observability.StructuredEvent.ReconciliationMismatch;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 /**
  * Structured event logger for financial operations.
  * Logs important business events in a structured format for monitoring and
  * auditing.
+ *
+ * Each call builds one typed event and hands it to the
+ * StructuredEventDispatcher, which serializes it to JSON and logs it on a
+ * background thread.
  */
 @Component
 public class StructuredLogger {
 
-    private static final Logger log = LoggerFactory.getLogger(StructuredLogger.class);
+    private final StructuredEventDispatcher dispatcher;
+
+    public StructuredLogger(StructuredEventDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
 
     /**
      * Logs when an operation is received
      */
     public void logOperationReceived(String externalReference, String operationType, BigDecimal amount) {
-        Map<String, Object> event = new HashMap<>();
-        event.put("event", "operation.received");
-        event.put("externalReference", externalReference);
-        event.put("operationType", operationType);
-        event.put("amount", amount);
-
-        log.info("Operation received: {}", formatEvent(event));
+        dispatcher.dispatch(new OperationReceived(externalReference, operationType, amount));
     }
 
     /**
      * Logs when a duplicate operation is detected
      */
     public void logDuplicateDetected(String externalReference, UUID existingOperationId) {
-        Map<String, Object> event = new HashMap<>();
-        event.put("event", "operation.duplicate_detected");
-        event.put("externalReference", externalReference);
-        event.put("existingOperationId", existingOperationId);
-
-        log.info("Duplicate operation detected: {}", formatEvent(event));
+        dispatcher.dispatch(new DuplicateDetected(externalReference, existingOperationId));
     }
 
     /**
@@ -49,28 +49,14 @@ public class StructuredLogger {
      */
     public void logOperationProcessed(UUID operationId, String externalReference, String operationType,
             BigDecimal amount) {
-        Map<String, Object> event = new HashMap<>();
-        event.put("event", "operation.processed");
-        event.put("operationId", operationId);
-        event.put("externalReference", externalReference);
-        event.put("operationType", operationType);
-        event.put("amount", amount);
-
-        log.info("Operation processed successfully: {}", formatEvent(event));
+        dispatcher.dispatch(new OperationProcessed(operationId, externalReference, operationType, amount));
     }
 
     /**
      * Logs when an operation fails
      */
     public void logOperationFailed(String externalReference, String reason, Exception exception) {
-        Map<String, Object> event = new HashMap<>();
-        event.put("event", "operation.failed");
-        event.put("externalReference", externalReference);
-        event.put("reason", reason);
-        event.put("exceptionClass", exception.getClass().getSimpleName());
-        event.put("exceptionMessage", exception.getMessage());
-
-        log.error("Operation failed: {}", formatEvent(event), exception);
+        dispatcher.dispatch(new OperationFailed(externalReference, reason, exception));
     }
 
     /**
@@ -78,48 +64,20 @@ public class StructuredLogger {
      */
     public void logReconciliationMismatch(UUID accountId, BigDecimal expected, BigDecimal calculated,
             BigDecimal difference) {
-        Map<String, Object> event = new HashMap<>();
-        event.put("event", "reconciliation.mismatch");
-        event.put("accountId", accountId);
-        event.put("expectedBalance", expected);
-        event.put("calculatedBalance", calculated);
-        event.put("difference", difference);
-
-        log.warn("Reconciliation mismatch detected: {}", formatEvent(event));
+        dispatcher.dispatch(new ReconciliationMismatch(accountId, expected, calculated, difference));
     }
 
     /**
      * Logs when a reconciliation match is confirmed
      */
     public void logReconciliationMatch(UUID accountId, BigDecimal balance) {
-        Map<String, Object> event = new HashMap<>();
-        event.put("event", "reconciliation.match");
-        event.put("accountId", accountId);
-        event.put("balance", balance);
-
-        log.info("Reconciliation match confirmed: {}", formatEvent(event));
+        dispatcher.dispatch(new ReconciliationMatch(accountId, balance));
     }
 
     /**
      * Logs when balance is calculated
      */
     public void logBalanceCalculated(UUID accountId, BigDecimal balance, int entriesCount) {
-        Map<String, Object> event = new HashMap<>();
-        event.put("event", "balance.calculated");
-        event.put("accountId", accountId);
-        event.put("balance", balance);
-        event.put("entriesCount", entriesCount);
-
-        log.debug("Balance calculated: {}", formatEvent(event));
-    }
-
-    private String formatEvent(Map<String, Object> event) {
-        StringBuilder sb = new StringBuilder();
-        event.forEach((key, value) -> {
-            if (sb.length() > 0)
-                sb.append(", ");
-            sb.append(key).append("=").append(value);
-        });
-        return sb.toString();
+        dispatcher.dispatch(new BalanceCalculated(accountId, balance, entriesCount));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package com.ledgerservice.infrastructure.observability;
+
+import com.ledgerservice.domain.enums.OperationType;
+import com.ledgerservice.domain.enums.ReconciliationStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer meters shared by the use cases
+ *
+ * - ledger.usecase.duration (timer, percentile histogram): one per use case,
+ * operation type and outcome
+ * - ledger.operation.duplicates: duplicates detected, by detection path
+ * - ledger.balance.rows_scanned: entries summed per balance calculation, by
+ * mode (database aggregate or full scan)
+ * - ledger.reconciliation.results: reconciliations by status (mismatches
+ * are status=mismatch), single and bulk
+ *
+ * Timers are looked up in the registry on each call (a map lookup once
+ * registered), so tags can follow the actual outcome.
+ */
+@Component
+public class UseCaseMetrics {
+
+    private static final String NO_OPERATION_TYPE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<DuplicatePath, Counter> duplicates = new EnumMap<>(DuplicatePath.class);
+    private final Map<ReconciliationStatus, Counter> reconciliations = new EnumMap<>(ReconciliationStatus.class);
+
+    public UseCaseMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        for (DuplicatePath path : DuplicatePath.values()) {
+            duplicates.put(path, Counter.builder("ledger.operation.duplicates")
+                    .description("Operations answered as duplicates of an existing external reference")
+                    .tag("path", path.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        for (ReconciliationStatus status : ReconciliationStatus.values()) {
+            reconciliations.put(status, Counter.builder("ledger.reconciliation.results")
+                    .description("Reconciliations recorded, by status")
+                    .tag("status", status.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Starts timing a use case; finish with stop()
+     */
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Records a use case execution
+     *
+     * @param type    operation type, null when not applicable
+     * @param outcome short lowercase outcome (e.g. created, duplicate, error)
+     */
+    public void stop(Timer.Sample sample, String useCase, OperationType type, String outcome) {
+        sample.stop(Timer.builder("ledger.usecase.duration")
+                .description("Use case execution time, including its transaction")
+                .tag("use_case", useCase)
+                .tag("operation_type", type != null ? type.name().toLowerCase() : NO_OPERATION_TYPE)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    /**
+     * Times work with a success or error outcome
+     */
+    public <T> T time(String useCase, Supplier<T> work) {
+        Timer.Sample sample = start();
+        String outcome = "error";
+        try {
+            T result = work.get();
+            outcome = "success";
+            return result;
+        } finally {
+            stop(sample, useCase, null, outcome);
+        }
+    }
+
+    public void duplicateDetected(DuplicatePath path) {
+        duplicates.get(path).increment();
+    }
+
+    public void rowsScanned(String mode, long rows) {
+        DistributionSummary.builder("ledger.balance.rows_scanned")
+                .description("Entries summed per balance calculation")
+                .baseUnit("rows")
+                .tag("mode", mode.toLowerCase())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(rows);
+    }
+
+    public void reconciliationRecorded(ReconciliationStatus status) {
+        reconciliations.get(status).increment();
+    }
+
+    /**
+     * Where a duplicate external reference was detected
+     */
+    public enum DuplicatePath {
+        // IdempotencyCache hit, no transaction opened
+        CACHE,
+        // Found by the lookup inside the transaction
+        PRECHECK,
+        // Lost the insert race: unique index violation, existing one fetched
+        RACE,
+        // Reported as DUPLICATE by a batch (already stored or repeated in it)
+        BATCH
+    }
+}
@@ -0,0 +1,79 @@
+package com.ledgerservice.infrastructure.outbox;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sink appending one JSON line per message to a file
+ * 
+ * A batch is written with a single write and forced to disk before publish
+ * returns, so the relay never deletes rows whose events are not durable.
+ * 
+ * Writes are serialized with a ReentrantLock rather than synchronized: the
+ * relay may run on a virtual thread, which would stay pinned to its carrier
+ * for the whole blocking write + force under a monitor (JDK 21).
+ */
+public class FileOutboxEventSink implements OutboxEventSink, AutoCloseable {
+
+    private final FileChannel channel;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public FileOutboxEventSink(Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null)
+                Files.createDirectories(parent);
+            this.channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot open outbox file " + file, ex);
+        }
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        if (batch.isEmpty())
+            return;
+
+        StringBuilder lines = new StringBuilder(batch.size() * 256);
+        for (OutboxMessage message : batch) {
+            // payload is already JSON, and the other fields need no escaping
+            lines.append("{\"id\":").append(message.id())
+                    .append(",\"aggregateId\":\"").append(message.aggregateId())
+                    .append("\",\"eventType\":\"").append(message.eventType())
+                    .append("\",\"createdAt\":\"").append(message.createdAt())
+                    .append("\",\"payload\":").append(message.payload())
+                    .append("}\n");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        lock.lock();
+        try {
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+            channel.force(false);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot append outbox events", ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            channel.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
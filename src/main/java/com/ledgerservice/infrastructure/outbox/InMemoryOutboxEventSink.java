@@ -0,0 +1,41 @@
+package com.ledgerservice.infrastructure.outbox;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * In-process sink keeping the most recent messages
+ * Stand-in for a message broker in development and tests
+ */
+public class InMemoryOutboxEventSink implements OutboxEventSink {
+
+    private final int capacity;
+    private final Deque<OutboxMessage> messages = new ArrayDeque<>();
+
+    public InMemoryOutboxEventSink(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Capacity must be positive");
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> batch) {
+        for (OutboxMessage message : batch) {
+            if (messages.size() == capacity)
+                messages.removeFirst();
+            messages.addLast(message);
+        }
+    }
+
+    /**
+     * Messages received so far, oldest first
+     */
+    public synchronized List<OutboxMessage> published() {
+        return List.copyOf(messages);
+    }
+
+    public synchronized void clear() {
+        messages.clear();
+    }
+}
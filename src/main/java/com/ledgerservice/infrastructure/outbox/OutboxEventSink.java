@@ -0,0 +1,29 @@
+package com.ledgerservice.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of the events relayed from the outbox
+ * 
+ * publish must either accept the whole batch or throw: the relay only deletes
+ * the rows after it returns, so a failed batch is retried on the next poll.
+ * Delivery is therefore at-least-once; consumers deduplicate on the message
+ * id.
+ */
+public interface OutboxEventSink {
+
+    /**
+     * Publishes the messages, in order
+     */
+    void publish(List<OutboxMessage> batch);
+
+    /**
+     * Sink implementations selectable with ledger.outbox.sink
+     */
+    enum Type {
+        // Kept in process (stand-in for a broker, used by tests)
+        MEMORY,
+        // Appended to an NDJSON file
+        FILE
+    }
+}
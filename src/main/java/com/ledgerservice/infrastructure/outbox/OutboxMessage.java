@@ -0,0 +1,18 @@
+package com.ledgerservice.infrastructure.outbox;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Event claimed from the outbox, handed to an OutboxEventSink
+ *
+ * @param id      publish order, and the id consumers deduplicate on
+ * @param payload JSON document
+ */
+public record OutboxMessage(
+        long id,
+        UUID aggregateId,
+        String eventType,
+        String payload,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,125 @@
+package com.ledgerservice.infrastructure.outbox;
+
+import com.ledgerservice.infrastructure.persistence.repositories.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Moves events from the outbox to the OutboxEventSink
+ * 
+ * Every poll drains the outbox in batches, each in its own transaction:
+ * - SELECT ... ORDER BY id LIMIT batch-size FOR UPDATE SKIP LOCKED
+ * - one sink.publish call for the whole batch
+ * - DELETE ... WHERE id = ANY (...)
+ * 
+ * GUARANTEES:
+ * - At-least-once: rows are deleted in the transaction that claimed them,
+ * after the sink accepted them; a failure rolls the claim back and the batch
+ * is retried on the next poll
+ * - Safe with several instances: SKIP LOCKED hands each row to one relay at a
+ * time. Order is kept within a batch, not across instances.
+ * 
+ * Metrics: ledger.outbox.published, ledger.outbox.batch.size,
+ * ledger.outbox.batch.duration, ledger.outbox.failures
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxEventSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final Counter published;
+    private final Counter failures;
+    private final DistributionSummary batchSizes;
+    private final Timer batchDuration;
+
+    public OutboxRelay(
+            OutboxRepository outboxRepository,
+            OutboxEventSink sink,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${ledger.outbox.relay.enabled:true}") boolean enabled,
+            @Value("${ledger.outbox.relay.batch-size:500}") int batchSize,
+            @Value("${ledger.outbox.relay.max-batches-per-poll:20}") int maxBatchesPerPoll) {
+        if (batchSize <= 0 || maxBatchesPerPoll <= 0)
+            throw new IllegalArgumentException("Batch size and batches per poll must be positive");
+
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.published = Counter.builder("ledger.outbox.published")
+                .description("Outbox events accepted by the sink")
+                .register(meterRegistry);
+        this.failures = Counter.builder("ledger.outbox.failures")
+                .description("Outbox batches rolled back because publishing failed")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("ledger.outbox.batch.size")
+                .description("Events per relayed batch")
+                .register(meterRegistry);
+        this.batchDuration = Timer.builder("ledger.outbox.batch.duration")
+                .description("Claim, publish and delete of one batch")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${ledger.outbox.relay.poll-interval:500ms}")
+    void poll() {
+        if (enabled)
+            drain();
+    }
+
+    /**
+     * Relays batches until the outbox is empty, a batch fails or
+     * max-batches-per-poll is reached
+     *
+     * @return number of events published
+     */
+    public int drain() {
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            int relayed;
+            try {
+                relayed = batchDuration.record(() -> transactionTemplate.execute(status -> relayBatch()));
+            } catch (RuntimeException ex) {
+                failures.increment();
+                log.warn("Outbox batch failed, will retry on next poll: {}", ex.getMessage());
+                break;
+            }
+
+            total += relayed;
+            if (relayed < batchSize)
+                break;
+        }
+        return total;
+    }
+
+    private int relayBatch() {
+        List<OutboxMessage> batch = outboxRepository.claim(batchSize);
+        if (batch.isEmpty())
+            return 0;
+
+        sink.publish(batch);
+        outboxRepository.delete(batch.stream().map(OutboxMessage::id).toList());
+
+        published.increment(batch.size());
+        batchSizes.record(batch.size());
+        return batch.size();
+    }
+}
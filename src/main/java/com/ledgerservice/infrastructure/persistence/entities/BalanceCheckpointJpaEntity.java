@@ -0,0 +1,48 @@
+package com.ledgerservice.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity for Balance Checkpoints table (append-only)
+ */
+@Entity
+@Table(name = "balance_checkpoints", indexes = {
+        @Index(name = "idx_balance_checkpoints_account_cursor", columnList = "account_id,last_entry_created_at,entry_count")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class BalanceCheckpointJpaEntity {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private UUID accountId;
+
+    @Column(name = "last_entry_created_at", nullable = false, updatable = false)
+    private LocalDateTime lastEntryCreatedAt;
+
+    @Column(name = "last_entry_id", nullable = false, updatable = false)
+    private UUID lastEntryId;
+
+    @Column(name = "running_sum", nullable = false, updatable = false, precision = 19, scale = 4)
+    private BigDecimal runningSum;
+
+    @Column(name = "entry_count", nullable = false, updatable = false)
+    private long entryCount;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
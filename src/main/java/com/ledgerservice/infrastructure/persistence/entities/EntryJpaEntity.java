@@ -14,12 +14,12 @@ import java.util.UUID;
 
 /**
  * JPA Entity for Entry table (double-entry bookkeeping)
+ * The table is partitioned by month on created_at (primary key id,
+ * created_at); id stays the entity identifier
  */
 @Entity
 @Table(name = "entries", indexes = {
         @Index(name = "idx_entries_operation_id", columnList = "operation_id"),
-        @Index(name = "idx_entries_account_id", columnList = "account_id"),
-        @Index(name = "idx_entries_created_at", columnList = "created_at"),
         @Index(name = "idx_entries_account_created", columnList = "account_id,created_at")
 })
 @Getter
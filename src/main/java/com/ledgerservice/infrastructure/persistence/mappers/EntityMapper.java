@@ -1,12 +1,14 @@
 package com.ledgerservice.infrastructure.persistence.mappers;
 
 import com.ledgerservice.domain.entities.Account;
+import com.ledgerservice.domain.entities.BalanceCheckpoint;
 import com.ledgerservice.domain.entities.Entry;
 import com.ledgerservice.domain.entities.Operation;
 import com.ledgerservice.domain.entities.ReconciliationRecord;
 import com.ledgerservice.domain.valueobjects.ExternalReference;
 import com.ledgerservice.domain.valueobjects.Money;
 import com.ledgerservice.infrastructure.persistence.entities.AccountJpaEntity;
+import com.ledgerservice.infrastructure.persistence.entities.BalanceCheckpointJpaEntity;
 import com.ledgerservice.infrastructure.persistence.entities.EntryJpaEntity;
 import com.ledgerservice.infrastructure.persistence.entities.OperationJpaEntity;
 import com.ledgerservice.infrastructure.persistence.entities.ReconciliationRecordJpaEntity;
@@ -106,4 +108,28 @@ public class EntityMapper {
                 jpa.getStatus(),
                 jpa.getCreatedAt());
     }
+
+    // BalanceCheckpoint mappings
+
+    public static BalanceCheckpointJpaEntity toJpa(BalanceCheckpoint domain) {
+        return new BalanceCheckpointJpaEntity(
+                domain.getId(),
+                domain.getAccountId(),
+                domain.getLastEntryCreatedAt(),
+                domain.getLastEntryId(),
+                domain.getRunningSum().getValue(),
+                domain.getEntryCount(),
+                domain.getCreatedAt());
+    }
+
+    public static BalanceCheckpoint toDomain(BalanceCheckpointJpaEntity jpa) {
+        return BalanceCheckpoint.reconstitute(
+                jpa.getId(),
+                jpa.getAccountId(),
+                jpa.getLastEntryCreatedAt(),
+                jpa.getLastEntryId(),
+                Money.of(jpa.getRunningSum()),
+                jpa.getEntryCount(),
+                jpa.getCreatedAt());
+    }
 }
\ No newline at end of file
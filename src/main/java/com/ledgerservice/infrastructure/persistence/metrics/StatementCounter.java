@@ -0,0 +1,40 @@
+package com.ledgerservice.infrastructure.persistence.metrics;
+
+/**
+ * Counts the SQL statements executed on the current thread
+ *
+ * Statements are counted at the JDBC layer by StatementCountingDataSource,
+ * so Hibernate and JdbcTemplate statements are both included. Counting only
+ * happens between start() and stop(), so it costs a ThreadLocal lookup
+ * everywhere else. A JDBC batch is executed once, so a batched INSERT of N
+ * rows counts as a single statement.
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    private StatementCounter() {
+    }
+
+    /**
+     * Starts counting statements on the current thread
+     */
+    public static void start() {
+        COUNT.set(new long[1]);
+    }
+
+    /**
+     * Stops counting and returns the number of statements since start()
+     */
+    public static long stop() {
+        long[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+
+    static void increment() {
+        long[] count = COUNT.get();
+        if (count != null)
+            count[0]++;
+    }
+}
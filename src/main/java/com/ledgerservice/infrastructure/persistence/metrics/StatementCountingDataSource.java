@@ -0,0 +1,114 @@
+package com.ledgerservice.infrastructure.persistence.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource reporting every executed statement to StatementCounter
+ *
+ * Statements created by a borrowed connection are wrapped, and each
+ * execute*() call counts once, whichever layer (Hibernate, JdbcTemplate)
+ * issued it. executeBatch() counts once for the whole batch.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection counting(Connection connection) {
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(
+                StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[] { type },
+                handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                    Object result = StatementCountingDataSource.invoke(target, method, args);
+                    // createStatement, prepareStatement, prepareCall
+                    if (result instanceof Statement statement
+                            && Statement.class.isAssignableFrom(method.getReturnType()))
+                        return proxy(method.getReturnType().asSubclass(Statement.class),
+                                new StatementHandler(statement));
+                    return result;
+                }
+            }
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+
+        StatementHandler(Statement target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "execute", "executeQuery", "executeUpdate", "executeLargeUpdate",
+                        "executeBatch", "executeLargeBatch" -> {
+                    StatementCounter.increment();
+                    return StatementCountingDataSource.invoke(target, method, args);
+                }
+                default -> {
+                    return StatementCountingDataSource.invoke(target, method, args);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.ledgerservice.infrastructure.persistence.partitioning;
+
+import com.ledgerservice.infrastructure.persistence.repositories.EntryPartitionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keeps monthly partitions of entries created ahead of time
+ * 
+ * entries has no DEFAULT partition, so an insert for a month without a
+ * partition fails. Partitions are created at startup and then daily, always
+ * covering the current month plus ledger.entries.partitions.months-ahead.
+ * Creating a partition that already exists is a no-op, so several instances
+ * can run this at the same time.
+ */
+@Component
+public class EntryPartitionMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(EntryPartitionMaintenance.class);
+
+    private final EntryPartitionRepository entryPartitionRepository;
+    private final int monthsAhead;
+
+    public EntryPartitionMaintenance(
+            EntryPartitionRepository entryPartitionRepository,
+            @Value("${ledger.entries.partitions.months-ahead:3}") int monthsAhead) {
+        if (monthsAhead < 1)
+            throw new IllegalArgumentException("Partitions must be created at least one month ahead");
+        this.entryPartitionRepository = entryPartitionRepository;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${ledger.entries.partitions.cron:0 0 3 * * *}")
+    public void createFuturePartitions() {
+        try {
+            int created = entryPartitionRepository.createPartitions(LocalDateTime.now(), monthsAhead);
+            if (created > 0)
+                log.info("Created {} entries partition(s), {} months ahead", created, monthsAhead);
+        } catch (RuntimeException ex) {
+            // Retried on the next run; existing partitions keep inserts working
+            log.error("Could not create entries partitions: {}", ex.getMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.ledgerservice.infrastructure.persistence.projections;
+
+import java.util.UUID;
+
+/**
+ * Projection for SUM(amount) / COUNT(*) aggregates grouped by account
+ * Lets one query compute the balances of many accounts
+ */
+public interface AccountEntryAggregate extends EntryAggregate {
+
+    /**
+     * Account the entries belong to
+     */
+    UUID getAccountId();
+}
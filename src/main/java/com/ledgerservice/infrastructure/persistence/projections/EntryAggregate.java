@@ -0,0 +1,20 @@
+package com.ledgerservice.infrastructure.persistence.projections;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection for SUM(amount) / COUNT(*) aggregates over entries
+ * Lets the database do the summation instead of materializing every entry
+ */
+public interface EntryAggregate {
+
+    /**
+     * SUM(amount) of the aggregated entries (zero when there are none)
+     */
+    BigDecimal getTotal();
+
+    /**
+     * Number of aggregated entries
+     */
+    long getCount();
+}
@@ -0,0 +1,152 @@
+package com.ledgerservice.infrastructure.persistence.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Running balance rows (account_balances)
+ * 
+ * Every method must be called inside a transaction: rows are locked until it
+ * completes.
+ * 
+ * An account has one row per shard and its balance is the sum of them. Most
+ * accounts only have the main shard (0); hot accounts (HotAccountPolicy)
+ * spread their writes over shards 1..N.
+ * 
+ * Rows are always locked and updated in ascending (shard, account id) order,
+ * so two transactions touching the same accounts (e.g. opposite transfers)
+ * wait on each other instead of deadlocking. Hot shard rows are therefore
+ * always locked after every main row. Account ids are compared the way
+ * Postgres orders uuid values (unsigned, byte by byte), not with
+ * UUID.compareTo, which compares signed halves and disagrees whenever the
+ * high bit differs.
+ */
+@Repository
+public class AccountBalanceRepository {
+
+    private static final String LOCK_SQL = """
+            SELECT account_id, balance
+            FROM account_balances
+            WHERE account_id = ANY (?)
+            ORDER BY shard, account_id
+            FOR UPDATE
+            """;
+
+    private static final String ENSURE_SQL = """
+            INSERT INTO account_balances (account_id, shard, balance, entry_count)
+            VALUES (?, 0, 0, 0)
+            ON CONFLICT (account_id, shard) DO NOTHING
+            """;
+
+    private static final String APPLY_SQL = """
+            INSERT INTO account_balances (account_id, shard, balance, entry_count, updated_at)
+            VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (account_id, shard) DO UPDATE
+            SET balance = account_balances.balance + EXCLUDED.balance,
+                entry_count = account_balances.entry_count + EXCLUDED.entry_count,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    /**
+     * Postgres uuid order: both 64-bit halves compared as unsigned values
+     */
+    static final Comparator<UUID> UUID_ORDER = (left, right) -> {
+        int order = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return order != 0
+                ? order
+                : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccountBalanceRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Locks the running balance rows of the accounts (SELECT ... FOR UPDATE),
+     * every shard included, and returns their balances
+     * Accounts without a row yet get one with a zero balance
+     */
+    public Map<UUID, BigDecimal> lockBalances(Collection<UUID> accountIds) {
+        Set<UUID> sorted = sortedIds(accountIds);
+        if (sorted.isEmpty())
+            return Map.of();
+
+        Map<UUID, BigDecimal> balances = selectForUpdate(sorted);
+
+        if (balances.size() < sorted.size()) {
+            List<Object[]> missing = sorted.stream()
+                    .filter(id -> !balances.containsKey(id))
+                    .map(id -> new Object[] { id })
+                    .toList();
+            jdbcTemplate.batchUpdate(ENSURE_SQL, missing);
+            balances.putAll(selectForUpdate(sorted));
+        }
+
+        return balances;
+    }
+
+    /**
+     * Adds the amounts and entry counts to the running balances, in one JDBC
+     * batch
+     */
+    public void apply(Map<UUID, Delta> deltas) {
+        Objects.requireNonNull(deltas, "Deltas cannot be null");
+        if (deltas.isEmpty())
+            return;
+
+        List<Map.Entry<UUID, Delta>> sorted = new ArrayList<>(deltas.entrySet());
+        sorted.sort(Comparator.<Map.Entry<UUID, Delta>>comparingInt(delta -> delta.getValue().shard())
+                .thenComparing(Map.Entry::getKey, UUID_ORDER));
+
+        List<Object[]> rows = new ArrayList<>(sorted.size());
+        for (Map.Entry<UUID, Delta> delta : sorted) {
+            rows.add(new Object[] {
+                    delta.getKey(), delta.getValue().shard(), delta.getValue().amount(), delta.getValue().entries() });
+        }
+
+        jdbcTemplate.batchUpdate(APPLY_SQL, rows);
+    }
+
+    private Map<UUID, BigDecimal> selectForUpdate(Collection<UUID> accountIds) {
+        Map<UUID, BigDecimal> balances = new HashMap<>();
+        jdbcTemplate.query(
+                LOCK_SQL,
+                ps -> {
+                    Array ids = ps.getConnection().createArrayOf("uuid", accountIds.toArray());
+                    ps.setArray(1, ids);
+                },
+                rs -> {
+                    balances.merge(rs.getObject("account_id", UUID.class), rs.getBigDecimal("balance"),
+                            BigDecimal::add);
+                });
+        return balances;
+    }
+
+    private static Set<UUID> sortedIds(Collection<UUID> accountIds) {
+        Objects.requireNonNull(accountIds, "Account IDs cannot be null");
+        Set<UUID> sorted = new TreeSet<>(UUID_ORDER);
+        accountIds.stream().filter(Objects::nonNull).forEach(sorted::add);
+        return sorted;
+    }
+
+    /**
+     * Change to apply to one shard of a running balance
+     */
+    public record Delta(int shard, BigDecimal amount, long entries) {
+    }
+}
@@ -2,8 +2,12 @@ package com.ledgerservice.infrastructure.persistence.repositories;
 
 import com.ledgerservice.infrastructure.persistence.entities.AccountJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -11,4 +15,11 @@ import java.util.UUID;
  */
 @Repository
 public interface AccountJpaRepository extends JpaRepository<AccountJpaEntity, UUID> {
+
+    /**
+     * Returns which of the given ids belong to an existing account
+     * Reads ids only, no account entity is loaded
+     */
+    @Query("SELECT a.id FROM AccountJpaEntity a WHERE a.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,43 @@
+package com.ledgerservice.infrastructure.persistence.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Postgres transaction-level advisory locks
+ * 
+ * Locks are keyed by (namespace, key) and released automatically when the
+ * surrounding transaction commits or rolls back. Must be called inside a
+ * transaction.
+ */
+@Repository
+public class AdvisoryLockRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Takes the lock if it is free, returns false without waiting otherwise
+     */
+    public boolean tryLock(int namespace, int key) {
+        Object acquired = entityManager
+                .createNativeQuery("SELECT pg_try_advisory_xact_lock(:namespace, :key)")
+                .setParameter("namespace", namespace)
+                .setParameter("key", key)
+                .getSingleResult();
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    /**
+     * Blocks until the lock is held by the current transaction
+     */
+    public void lock(int namespace, int key) {
+        // pg_advisory_xact_lock returns void, wrapped so the row can be mapped
+        entityManager
+                .createNativeQuery("SELECT 1 FROM (SELECT pg_advisory_xact_lock(:namespace, :key)) AS acquired")
+                .setParameter("namespace", namespace)
+                .setParameter("key", key)
+                .getSingleResult();
+    }
+}
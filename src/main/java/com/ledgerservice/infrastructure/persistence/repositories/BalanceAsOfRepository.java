@@ -0,0 +1,101 @@
+package com.ledgerservice.infrastructure.persistence.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Point-in-time balances: SUM of the entries recorded up to an instant
+ * 
+ * One query for any number of accounts. Per account:
+ * - the latest checkpoint whose cursor is at or before the instant
+ * (idx_balance_checkpoints_account_cursor, LIMIT 1)
+ * - SUM/COUNT of the entries after that cursor and up to the instant, an
+ * index range scan of idx_entries_account_created bounded on both sides by
+ * created_at, so only the partitions in between are read
+ * Without a checkpoint, the tail starts at the first entry of the account.
+ */
+@Repository
+public class BalanceAsOfRepository {
+
+    private static final String AS_OF_SQL = """
+            SELECT a.account_id,
+                   COALESCE(cp.running_sum, 0) + tail.total AS total,
+                   COALESCE(cp.entry_count, 0) + tail.count AS count,
+                   tail.count AS scanned
+            FROM unnest(?) AS a(account_id)
+            LEFT JOIN LATERAL (
+                SELECT running_sum, entry_count, last_entry_created_at, last_entry_id
+                FROM balance_checkpoints
+                WHERE account_id = a.account_id
+                  AND last_entry_created_at <= ?
+                ORDER BY last_entry_created_at DESC, entry_count DESC
+                LIMIT 1
+            ) cp ON TRUE
+            CROSS JOIN LATERAL (
+                SELECT COALESCE(SUM(e.amount), 0) AS total, COUNT(*) AS count
+                FROM entries e
+                WHERE e.account_id = a.account_id
+                  AND e.created_at >= COALESCE(cp.last_entry_created_at, '-infinity'::timestamp)
+                  AND (e.created_at, e.id) > (
+                      COALESCE(cp.last_entry_created_at, '-infinity'::timestamp),
+                      COALESCE(cp.last_entry_id, '00000000-0000-0000-0000-000000000000'::uuid))
+                  AND e.created_at <= ?
+            ) tail
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BalanceAsOfRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Aggregates the entries of every account recorded at or before asOf
+     * Accounts without entries get a zero total; existence is not checked
+     */
+    public Map<UUID, AsOfAggregate> aggregateAsOf(Collection<UUID> accountIds, LocalDateTime asOf) {
+        Objects.requireNonNull(accountIds, "Account IDs cannot be null");
+        Objects.requireNonNull(asOf, "As-of instant cannot be null");
+
+        Object[] ids = new LinkedHashSet<>(accountIds).toArray();
+        Map<UUID, AsOfAggregate> aggregates = new HashMap<>();
+        if (ids.length == 0)
+            return aggregates;
+
+        Timestamp instant = Timestamp.valueOf(asOf);
+        jdbcTemplate.query(
+                AS_OF_SQL,
+                ps -> {
+                    Array array = ps.getConnection().createArrayOf("uuid", ids);
+                    ps.setArray(1, array);
+                    ps.setTimestamp(2, instant);
+                    ps.setTimestamp(3, instant);
+                },
+                rs -> {
+                    aggregates.put(
+                            rs.getObject("account_id", UUID.class),
+                            new AsOfAggregate(rs.getBigDecimal("total"), rs.getLong("count"), rs.getLong("scanned")));
+                });
+        return aggregates;
+    }
+
+    /**
+     * Balance of an account at an instant
+     *
+     * @param count   entries covered (checkpoint + tail)
+     * @param scanned entries actually summed (tail only)
+     */
+    public record AsOfAggregate(BigDecimal total, long count, long scanned) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.ledgerservice.infrastructure.persistence.repositories;
+
+import com.ledgerservice.infrastructure.persistence.entities.BalanceCheckpointJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA Repository for BalanceCheckpoint
+ */
+@Repository
+public interface BalanceCheckpointJpaRepository extends JpaRepository<BalanceCheckpointJpaEntity, UUID> {
+
+    /**
+     * Finds the most recent checkpoint of an account (furthest cursor)
+     */
+    Optional<BalanceCheckpointJpaEntity> findFirstByAccountIdOrderByLastEntryCreatedAtDescEntryCountDesc(
+            UUID accountId);
+}
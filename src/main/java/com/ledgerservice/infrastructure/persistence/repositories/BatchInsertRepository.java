@@ -0,0 +1,39 @@
+package com.ledgerservice.infrastructure.persistence.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * Inserts new JPA entities through EntityManager.persist
+ * 
+ * JpaRepository.save merges entities with an assigned UUID, which costs one
+ * SELECT per entity before the INSERT. Ledger rows are always new (immutable
+ * entries, fresh operations), so they are persisted directly and flushed once,
+ * letting Hibernate group the INSERTs into JDBC batches
+ * (hibernate.jdbc.batch_size + order_inserts).
+ * 
+ * Must be called inside a transaction.
+ */
+@Repository
+public class BatchInsertRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Persists every entity (in iteration order) without flushing
+     */
+    public void persistAll(Collection<?> entities) {
+        entities.forEach(entityManager::persist);
+    }
+
+    /**
+     * Sends every pending INSERT to the database in JDBC batches
+     */
+    public void flush() {
+        entityManager.flush();
+    }
+}
@@ -1,14 +1,29 @@
 package com.ledgerservice.infrastructure.persistence.repositories;
 
 import com.ledgerservice.infrastructure.persistence.entities.EntryJpaEntity;
+import com.ledgerservice.infrastructure.persistence.projections.AccountEntryAggregate;
+import com.ledgerservice.infrastructure.persistence.projections.EntryAggregate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA Repository for Entry
+ * 
+ * entries is partitioned by month on created_at. Postgres only prunes
+ * partitions on plain created_at predicates, not on (created_at, id) row
+ * comparisons, so keyset queries repeat their cursor as a created_at bound.
  */
 @Repository
 public interface EntryJpaRepository extends JpaRepository<EntryJpaEntity, UUID> {
@@ -25,8 +40,194 @@ public interface EntryJpaRepository extends JpaRepository<EntryJpaEntity, UUID>
      */
     List<EntryJpaEntity> findByAccountIdOrderByCreatedAtDesc(UUID accountId);
 
+    /**
+     * Finds the most recent entries of an account, newest first, limited in
+     * the database (top-N over idx_entries_account_created)
+     */
+    @Query(value = """
+            SELECT * FROM entries
+            WHERE account_id = :accountId
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<EntryJpaEntity> findLatest(
+            @Param("accountId") UUID accountId,
+            @Param("limit") int limit);
+
+    /**
+     * Checks that a keyset cursor points at an entry of the account
+     * created_at is part of the primary key, so only its partition is probed
+     */
+    boolean existsByIdAndAccountIdAndCreatedAt(UUID id, UUID accountId, LocalDateTime createdAt);
+
+    /**
+     * Finds the entries recorded strictly before a keyset cursor, newest first
+     * Pages backwards through the history without OFFSET: each page costs an
+     * index range scan of its own size
+     */
+    @Query(value = """
+            SELECT * FROM entries
+            WHERE account_id = :accountId
+              AND created_at <= :beforeCreatedAt
+              AND (created_at, id) < (:beforeCreatedAt, :beforeEntryId)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<EntryJpaEntity> findLatestBefore(
+            @Param("accountId") UUID accountId,
+            @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+            @Param("beforeEntryId") UUID beforeEntryId,
+            @Param("limit") int limit);
+
+    /**
+     * Streams every entry of an account in chronological order through a JDBC
+     * cursor (fetch size), for exports of arbitrarily long histories
+     * Must be consumed inside a transaction and closed; callers detach each
+     * entity so the persistence context stays empty
+     */
+    @Query("SELECT e FROM EntryJpaEntity e WHERE e.accountId = :accountId ORDER BY e.createdAt ASC, e.id ASC")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<EntryJpaEntity> streamByAccountId(@Param("accountId") UUID accountId);
+
+    /**
+     * Streams the entries of an account recorded in [from, to), in
+     * chronological order, like streamByAccountId
+     * Only the partitions of the range are read
+     */
+    @Query("""
+            SELECT e FROM EntryJpaEntity e
+            WHERE e.accountId = :accountId
+              AND e.createdAt >= :from
+              AND e.createdAt < :to
+            ORDER BY e.createdAt ASC, e.id ASC
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<EntryJpaEntity> streamByAccountIdBetween(
+            @Param("accountId") UUID accountId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * Aggregates every entry of an account in the database
+     * Default balance strategy: no entry is materialized in the JVM
+     */
+    @Query(value = """
+            SELECT COALESCE(SUM(amount), 0) AS total, COUNT(*) AS count
+            FROM entries
+            WHERE account_id = :accountId
+            """, nativeQuery = true)
+    EntryAggregate aggregateByAccountId(@Param("accountId") UUID accountId);
+
+    /**
+     * Aggregates the entries of many accounts in one grouped query
+     * Accounts without entries are absent from the result
+     */
+    @Query(value = """
+            SELECT account_id AS accountId, SUM(amount) AS total, COUNT(*) AS count
+            FROM entries
+            WHERE account_id IN (:accountIds)
+            GROUP BY account_id
+            """, nativeQuery = true)
+    List<AccountEntryAggregate> aggregateByAccountIds(@Param("accountIds") Collection<UUID> accountIds);
+
+    /**
+     * Aggregates the entries recorded after a balance checkpoint cursor
+     * Keyset on (created_at, id) so entries sharing a timestamp are never
+     * skipped nor counted twice; only partitions from the cursor month on are
+     * read
+     */
+    @Query(value = """
+            SELECT COALESCE(SUM(amount), 0) AS total, COUNT(*) AS count
+            FROM entries
+            WHERE account_id = :accountId
+              AND created_at >= :afterCreatedAt
+              AND (created_at, id) > (:afterCreatedAt, :afterEntryId)
+            """, nativeQuery = true)
+    EntryAggregate aggregateAfter(
+            @Param("accountId") UUID accountId,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterEntryId") UUID afterEntryId);
+
+    /**
+     * Finds the last entry recorded after a balance checkpoint cursor, bounded
+     * by a settlement horizon
+     * Used to build checkpoints only over entries that can no longer change
+     */
+    @Query(value = """
+            SELECT * FROM entries
+            WHERE account_id = :accountId
+              AND created_at >= :afterCreatedAt
+              AND (created_at, id) > (:afterCreatedAt, :afterEntryId)
+              AND created_at <= :upTo
+            ORDER BY created_at DESC, id DESC
+            LIMIT 1
+            """, nativeQuery = true)
+    Optional<EntryJpaEntity> findLastAfterUpTo(
+            @Param("accountId") UUID accountId,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterEntryId") UUID afterEntryId,
+            @Param("upTo") LocalDateTime upTo);
+
+    /**
+     * Finds the last entry up to a settlement horizon (first checkpoint of an
+     * account)
+     */
+    @Query(value = """
+            SELECT * FROM entries
+            WHERE account_id = :accountId
+              AND created_at <= :upTo
+            ORDER BY created_at DESC, id DESC
+            LIMIT 1
+            """, nativeQuery = true)
+    Optional<EntryJpaEntity> findLastUpTo(
+            @Param("accountId") UUID accountId,
+            @Param("upTo") LocalDateTime upTo);
+
+    /**
+     * Aggregates the entries between two checkpoint cursors: after the first,
+     * up to and including the second
+     */
+    @Query(value = """
+            SELECT COALESCE(SUM(amount), 0) AS total, COUNT(*) AS count
+            FROM entries
+            WHERE account_id = :accountId
+              AND created_at >= :afterCreatedAt
+              AND (created_at, id) > (:afterCreatedAt, :afterEntryId)
+              AND created_at <= :cursorCreatedAt
+              AND (created_at, id) <= (:cursorCreatedAt, :cursorEntryId)
+            """, nativeQuery = true)
+    EntryAggregate aggregateBetween(
+            @Param("accountId") UUID accountId,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterEntryId") UUID afterEntryId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorEntryId") UUID cursorEntryId);
+
+    /**
+     * Aggregates every entry covered by a checkpoint cursor (first checkpoint
+     * of an account and checkpoint audit)
+     */
+    @Query(value = """
+            SELECT COALESCE(SUM(amount), 0) AS total, COUNT(*) AS count
+            FROM entries
+            WHERE account_id = :accountId
+              AND created_at <= :cursorCreatedAt
+              AND (created_at, id) <= (:cursorCreatedAt, :cursorEntryId)
+            """, nativeQuery = true)
+    EntryAggregate aggregateUpToCursor(
+            @Param("accountId") UUID accountId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorEntryId") UUID cursorEntryId);
+
     /**
      * Finds all entries for an operation
+     * Not time-bounded: probes idx_entries_operation_id in every partition
      */
     List<EntryJpaEntity> findByOperationId(UUID operationId);
 
@@ -0,0 +1,50 @@
+package com.ledgerservice.infrastructure.persistence.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Monthly partitions of the entries table
+ * Partitions are created by the create_entries_partitions SQL function (V10)
+ */
+@Repository
+public class EntryPartitionRepository {
+
+    private static final String CREATE_SQL = "SELECT create_entries_partitions(?, ?)";
+
+    private static final String LIST_SQL = """
+            SELECT child.relname
+            FROM pg_inherits
+            JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+            JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+            WHERE parent.relname = 'entries'
+            ORDER BY child.relname
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EntryPartitionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Creates the missing partitions from the month of from through
+     * monthsAhead months after the current one
+     *
+     * @return number of partitions created
+     */
+    public int createPartitions(LocalDateTime from, int monthsAhead) {
+        Integer created = jdbcTemplate.queryForObject(CREATE_SQL, Integer.class, from, monthsAhead);
+        return created != null ? created : 0;
+    }
+
+    /**
+     * Partition names (entries_YYYY_MM), oldest first
+     */
+    public List<String> listPartitions() {
+        return jdbcTemplate.queryForList(LIST_SQL, String.class);
+    }
+}
@@ -1,11 +1,18 @@
 package com.ledgerservice.infrastructure.persistence.repositories;
 
 import com.ledgerservice.infrastructure.persistence.entities.OperationJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA Repository for Operation
@@ -18,6 +25,20 @@ public interface OperationJpaRepository extends JpaRepository<OperationJpaEntity
      */
     Optional<OperationJpaEntity> findByExternalReference(String externalReference);
 
+    /**
+     * Finds every operation matching the given external references
+     * Resolves idempotency for a whole batch in a single query
+     */
+    List<OperationJpaEntity> findByExternalReferenceIn(Collection<String> externalReferences);
+
+    /**
+     * Streams every stored external reference (filter warm-up)
+     * Must be consumed inside a transaction and closed
+     */
+    @Query("SELECT o.externalReference FROM OperationJpaEntity o")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"))
+    Stream<String> streamAllExternalReferences();
+
     /**
      * Checks if operation exists by external reference
      */
@@ -0,0 +1,97 @@
+package com.ledgerservice.infrastructure.persistence.repositories;
+
+import com.ledgerservice.infrastructure.outbox.OutboxMessage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Transactional outbox (outbox_events)
+ * 
+ * Every method must be called inside a transaction: appended rows commit with
+ * the operations they describe, claimed rows stay locked until the relay
+ * deletes them or rolls back.
+ */
+@Repository
+public class OutboxRepository {
+
+    private static final String APPEND_SQL = """
+            INSERT INTO outbox_events (aggregate_id, event_type, payload)
+            VALUES (?, ?, ?::jsonb)
+            """;
+
+    // SKIP LOCKED: concurrent relays (other instances) take the next rows
+    // instead of waiting for the ones already claimed
+    private static final String CLAIM_SQL = """
+            SELECT id, aggregate_id, event_type, payload::text AS payload, created_at
+            FROM outbox_events
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String DELETE_SQL = """
+            DELETE FROM outbox_events
+            WHERE id = ANY (?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the events in one JDBC batch
+     */
+    public void append(Collection<NewEvent> events) {
+        Objects.requireNonNull(events, "Events cannot be null");
+        if (events.isEmpty())
+            return;
+
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (NewEvent event : events) {
+            rows.add(new Object[] { event.aggregateId(), event.eventType(), event.payload() });
+        }
+        jdbcTemplate.batchUpdate(APPEND_SQL, rows);
+    }
+
+    /**
+     * Locks and returns up to limit of the oldest events not claimed by
+     * another transaction
+     */
+    public List<OutboxMessage> claim(int limit) {
+        return jdbcTemplate.query(
+                CLAIM_SQL,
+                (rs, rowNum) -> new OutboxMessage(
+                        rs.getLong("id"),
+                        rs.getObject("aggregate_id", UUID.class),
+                        rs.getString("event_type"),
+                        rs.getString("payload"),
+                        rs.getTimestamp("created_at").toLocalDateTime()),
+                limit);
+    }
+
+    public void delete(Collection<Long> ids) {
+        Objects.requireNonNull(ids, "IDs cannot be null");
+        if (ids.isEmpty())
+            return;
+
+        jdbcTemplate.update(DELETE_SQL, ps -> {
+            Array array = ps.getConnection().createArrayOf("bigint", ids.toArray());
+            ps.setArray(1, array);
+        });
+    }
+
+    /**
+     * Event to append; payload is a JSON document
+     */
+    public record NewEvent(UUID aggregateId, String eventType, String payload) {
+    }
+}
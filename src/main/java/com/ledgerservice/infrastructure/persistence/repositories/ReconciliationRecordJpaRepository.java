@@ -18,4 +18,9 @@ public interface ReconciliationRecordJpaRepository extends JpaRepository<Reconci
      * descending
      */
     List<ReconciliationRecordJpaEntity> findByAccountIdOrderByCreatedAtDesc(UUID accountId);
+
+    /**
+     * Finds the 10 most recent reconciliation records (dashboard)
+     */
+    List<ReconciliationRecordJpaEntity> findTop10ByOrderByCreatedAtDesc();
 }
\ No newline at end of file
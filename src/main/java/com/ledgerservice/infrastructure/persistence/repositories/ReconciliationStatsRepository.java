@@ -0,0 +1,122 @@
+package com.ledgerservice.infrastructure.persistence.repositories;
+
+import com.ledgerservice.domain.entities.ReconciliationRecord;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Per-account reconciliation summary (reconciliation_account_stats)
+ * 
+ * Kept in step with reconciliation_records: every record inserted must be
+ * passed to record() in the same transaction.
+ */
+@Repository
+public class ReconciliationStatsRepository {
+
+    private static final String RECORD_SQL = """
+            INSERT INTO reconciliation_account_stats AS stats
+                (account_id, reconciliation_count, mismatch_count, max_abs_difference, last_reconciled_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (account_id) DO UPDATE
+            SET reconciliation_count = stats.reconciliation_count + EXCLUDED.reconciliation_count,
+                mismatch_count = stats.mismatch_count + EXCLUDED.mismatch_count,
+                max_abs_difference = GREATEST(stats.max_abs_difference, EXCLUDED.max_abs_difference),
+                last_reconciled_at = GREATEST(stats.last_reconciled_at, EXCLUDED.last_reconciled_at)
+            """;
+
+    private static final String SUMMARY_SQL = """
+            SELECT (SELECT COUNT(*) FROM accounts) AS total_accounts,
+                   COUNT(*) FILTER (WHERE mismatch_count > 0) AS accounts_with_mismatch,
+                   COALESCE(MAX(max_abs_difference), 0) AS largest_difference
+            FROM reconciliation_account_stats
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReconciliationStatsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Folds new reconciliation records into the per-account stats, in one
+     * JDBC batch
+     * 
+     * Records are merged per account first (an account may be reconciled
+     * several times in a bulk job, and one upsert cannot touch the same row
+     * twice), then written in account id order so concurrent callers cannot
+     * deadlock.
+     */
+    public void record(Collection<ReconciliationRecord> records) {
+        Objects.requireNonNull(records, "Records cannot be null");
+        if (records.isEmpty())
+            return;
+
+        Map<UUID, AccountStats> byAccount = new TreeMap<>();
+        for (ReconciliationRecord rec : records)
+            byAccount.merge(rec.getAccountId(), AccountStats.of(rec), AccountStats::merge);
+
+        List<Object[]> rows = byAccount.entrySet().stream()
+                .map(entry -> new Object[] {
+                        entry.getKey(),
+                        entry.getValue().count(),
+                        entry.getValue().mismatches(),
+                        entry.getValue().maxAbsDifference(),
+                        Timestamp.valueOf(entry.getValue().lastReconciledAt())
+                })
+                .toList();
+
+        jdbcTemplate.batchUpdate(RECORD_SQL, rows);
+    }
+
+    /**
+     * Dashboard totals in one round trip, over one row per reconciled account
+     */
+    public Summary summarize() {
+        return jdbcTemplate.queryForObject(SUMMARY_SQL, (rs, rowNum) -> new Summary(
+                rs.getLong("total_accounts"),
+                rs.getLong("accounts_with_mismatch"),
+                rs.getBigDecimal("largest_difference")));
+    }
+
+    private record AccountStats(
+            long count,
+            long mismatches,
+            BigDecimal maxAbsDifference,
+            LocalDateTime lastReconciledAt) {
+
+        static AccountStats of(ReconciliationRecord rec) {
+            return new AccountStats(
+                    1,
+                    rec.isMismatch() ? 1 : 0,
+                    rec.getDifference().getValue().abs(),
+                    rec.getCreatedAt());
+        }
+
+        AccountStats merge(AccountStats other) {
+            return new AccountStats(
+                    count + other.count,
+                    mismatches + other.mismatches,
+                    maxAbsDifference.max(other.maxAbsDifference),
+                    lastReconciledAt.isAfter(other.lastReconciledAt) ? lastReconciledAt : other.lastReconciledAt);
+        }
+    }
+
+    /**
+     * Totals across every account
+     */
+    public record Summary(
+            long totalAccounts,
+            long accountsWithMismatch,
+            BigDecimal largestDifference) {
+    }
+}
@@ -0,0 +1,78 @@
+-- Migration: Partition entries by month
+-- Purpose: Range-partition entries on created_at (one partition per month) so inserts only maintain the
+-- indexes of the current month, vacuum works partition by partition, and time-bounded queries
+-- (balance after a checkpoint cursor, bounded exports) only touch the months they cover.
+--
+-- Existing rows are copied into the partitioned table in this migration. Future months are created by
+-- create_entries_partitions(), called at startup and daily by EntryPartitionMaintenance.
+--
+-- Constraints of partitioned tables:
+-- - The primary key must contain the partition key: it becomes (id, created_at). ids are random UUIDs
+--   generated by the application, so uniqueness of id alone is no longer enforced by the database.
+-- - There is no DEFAULT partition: an entry outside every partition is rejected, never silently parked.
+
+ALTER TABLE entries RENAME TO entries_unpartitioned;
+ALTER TABLE entries_unpartitioned RENAME CONSTRAINT entries_pkey TO entries_unpartitioned_pkey;
+DROP INDEX idx_entries_operation_id;
+DROP INDEX idx_entries_account_id;
+DROP INDEX idx_entries_created_at;
+DROP INDEX idx_entries_account_created;
+
+CREATE TABLE entries (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    operation_id UUID NOT NULL REFERENCES operations(id) ON DELETE RESTRICT,
+    account_id UUID NOT NULL REFERENCES accounts(id) ON DELETE RESTRICT,
+    amount NUMERIC(19, 4) NOT NULL CHECK (amount != 0),
+    direction VARCHAR(10) NOT NULL CHECK (direction IN ('credit', 'debit')),
+    entry_type VARCHAR(50) NOT NULL,
+    source VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Creates the monthly partitions from the month of from_date through months_ahead months after the
+-- current month; existing partitions are left alone. Returns the number of partitions created.
+CREATE FUNCTION create_entries_partitions(from_date TIMESTAMP, months_ahead INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    month_start TIMESTAMP := date_trunc('month', from_date);
+    last_month TIMESTAMP := date_trunc('month', LOCALTIMESTAMP) + make_interval(months => months_ahead);
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        partition_name := 'entries_' || to_char(month_start, 'YYYY_MM');
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format(
+                'CREATE TABLE %I PARTITION OF entries FOR VALUES FROM (%L) TO (%L)',
+                partition_name, month_start, month_start + INTERVAL '1 month');
+            created := created + 1;
+        END IF;
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT create_entries_partitions(
+    LEAST(COALESCE((SELECT MIN(created_at) FROM entries_unpartitioned), LOCALTIMESTAMP), LOCALTIMESTAMP),
+    3);
+
+INSERT INTO entries (id, operation_id, account_id, amount, direction, entry_type, source, created_at)
+SELECT id, operation_id, account_id, amount, direction, entry_type, source, created_at
+FROM entries_unpartitioned;
+
+DROP TABLE entries_unpartitioned;
+
+-- Indexes, created on every partition (present and future)
+-- (account_id, created_at) also serves account-only lookups; a created_at-only index is not needed
+-- since time ranges are answered by partition pruning.
+CREATE INDEX idx_entries_operation_id ON entries(operation_id);
+CREATE INDEX idx_entries_account_created ON entries(account_id, created_at);
+
+-- Comments for documentation
+COMMENT ON TABLE entries IS 'Double-entry bookkeeping ledger - immutable entries only, NEVER updated or deleted. Partitioned by month on created_at';
+COMMENT ON COLUMN entries.amount IS 'Can be positive or negative - CHECK ensures non-zero';
+COMMENT ON COLUMN entries.direction IS 'credit (money in) or debit (money out)';
+COMMENT ON COLUMN entries.entry_type IS 'Business context: initial_deposit, transfer_out, transfer_in, etc';
+COMMENT ON COLUMN entries.source IS 'Origin of entry: bank_api, psp_webhook, internal, etc';
@@ -0,0 +1,15 @@
+-- Migration: Shard running balances
+-- Purpose: Hot accounts (SYSTEM, TRANSIT) take part in nearly every operation, so their single
+-- account_balances row was locked by every writer until commit. A hot account now spreads its writes
+-- over shard rows 1..N (picked at random per transaction); its balance is the SUM over its rows.
+-- Every other account keeps one row, shard 0, which is also where the existing rows go.
+
+ALTER TABLE account_balances ADD COLUMN shard SMALLINT NOT NULL DEFAULT 0 CHECK (shard >= 0);
+
+ALTER TABLE account_balances DROP CONSTRAINT account_balances_pkey;
+ALTER TABLE account_balances ADD PRIMARY KEY (account_id, shard);
+
+-- Comments for documentation
+COMMENT ON TABLE account_balances IS 'Running balance per account and shard - derived from entries, updated under row lock with every entry insert';
+COMMENT ON COLUMN account_balances.shard IS '0 for regular accounts; 1..N for hot accounts, whose balance is the sum of their shards';
+COMMENT ON COLUMN account_balances.balance IS 'SUM(amount) of the entries of the account counted in this shard';
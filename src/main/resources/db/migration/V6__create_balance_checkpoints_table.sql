@@ -0,0 +1,24 @@
+-- Migration: Create balance_checkpoints table
+-- Purpose: Append-only balance snapshots so balance reads only sum the entries after the latest checkpoint.
+-- Checkpoints are DERIVED data: they can be dropped and rebuilt from entries at any time.
+
+CREATE TABLE balance_checkpoints (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    account_id UUID NOT NULL REFERENCES accounts(id) ON DELETE CASCADE,
+    last_entry_created_at TIMESTAMP NOT NULL,
+    last_entry_id UUID NOT NULL,
+    running_sum NUMERIC(19, 4) NOT NULL,
+    entry_count BIGINT NOT NULL CHECK (entry_count > 0),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Latest checkpoint lookup per account
+CREATE INDEX idx_balance_checkpoints_account_cursor
+    ON balance_checkpoints(account_id, last_entry_created_at DESC, entry_count DESC);
+
+-- Comments for documentation
+COMMENT ON TABLE balance_checkpoints IS 'Append-only balance snapshots - derived from entries, rebuildable and auditable, NEVER updated';
+COMMENT ON COLUMN balance_checkpoints.last_entry_created_at IS 'created_at of the last entry covered by this checkpoint (cursor part 1)';
+COMMENT ON COLUMN balance_checkpoints.last_entry_id IS 'id of the last entry covered by this checkpoint (cursor part 2, tie-breaker)';
+COMMENT ON COLUMN balance_checkpoints.running_sum IS 'SUM(amount) of every entry up to and including the cursor';
+COMMENT ON COLUMN balance_checkpoints.entry_count IS 'Number of entries covered by this checkpoint';
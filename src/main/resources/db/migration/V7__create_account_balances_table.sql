@@ -0,0 +1,23 @@
+-- Migration: Create account_balances table
+-- Purpose: One running-total row per account, updated in the same transaction as the entries it covers.
+-- Lets write transactions check available funds with a single row lock instead of summing the entry history.
+-- Running totals are DERIVED data: they can be rebuilt from entries at any time.
+
+CREATE TABLE account_balances (
+    account_id UUID PRIMARY KEY REFERENCES accounts(id) ON DELETE CASCADE,
+    balance NUMERIC(19, 4) NOT NULL,
+    entry_count BIGINT NOT NULL CHECK (entry_count >= 0),
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Backfill from the existing entries
+INSERT INTO account_balances (account_id, balance, entry_count)
+SELECT a.id, COALESCE(SUM(e.amount), 0), COUNT(e.id)
+FROM accounts a
+LEFT JOIN entries e ON e.account_id = a.id
+GROUP BY a.id;
+
+-- Comments for documentation
+COMMENT ON TABLE account_balances IS 'Running balance per account - derived from entries, updated under row lock with every entry insert';
+COMMENT ON COLUMN account_balances.balance IS 'SUM(amount) of every entry of the account';
+COMMENT ON COLUMN account_balances.entry_count IS 'Number of entries covered by balance';
@@ -0,0 +1,32 @@
+-- Migration: Create reconciliation_account_stats table
+-- Purpose: Per-account reconciliation summary, updated incrementally with every reconciliation record.
+-- The dashboard aggregates one row per account instead of the whole reconciliation history,
+-- so its latency stays flat as reconciliation_records grows.
+-- Stats are DERIVED data: they can be rebuilt from reconciliation_records at any time.
+
+CREATE TABLE reconciliation_account_stats (
+    account_id UUID PRIMARY KEY REFERENCES accounts(id) ON DELETE CASCADE,
+    reconciliation_count BIGINT NOT NULL CHECK (reconciliation_count > 0),
+    mismatch_count BIGINT NOT NULL CHECK (mismatch_count >= 0),
+    max_abs_difference NUMERIC(19, 4) NOT NULL,
+    last_reconciled_at TIMESTAMP NOT NULL
+);
+
+-- Backfill from the existing history
+INSERT INTO reconciliation_account_stats
+    (account_id, reconciliation_count, mismatch_count, max_abs_difference, last_reconciled_at)
+SELECT account_id,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE status = 'mismatch'),
+       MAX(ABS(difference)),
+       MAX(created_at)
+FROM reconciliation_records
+GROUP BY account_id;
+
+-- Recent reconciliations on the dashboard (ORDER BY created_at DESC LIMIT n)
+CREATE INDEX idx_reconciliation_created_at ON reconciliation_records(created_at DESC);
+
+-- Comments for documentation
+COMMENT ON TABLE reconciliation_account_stats IS 'Reconciliation summary per account - derived from reconciliation_records, updated with every insert';
+COMMENT ON COLUMN reconciliation_account_stats.mismatch_count IS 'Number of mismatch records of the account';
+COMMENT ON COLUMN reconciliation_account_stats.max_abs_difference IS 'MAX(ABS(difference)) over every record of the account';
@@ -0,0 +1,17 @@
+-- Migration: Create outbox_events table
+-- Purpose: Transactional outbox. Events about processed operations are inserted in the same transaction
+-- as the operation, so downstream systems learn about exactly the operations that committed.
+-- A relay claims the oldest rows (FOR UPDATE SKIP LOCKED), hands them to a sink in batches and deletes them.
+
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Comments for documentation
+COMMENT ON TABLE outbox_events IS 'Events waiting to be published - rows are deleted once the sink accepted them';
+COMMENT ON COLUMN outbox_events.id IS 'Publish order; also the event id consumers deduplicate on (delivery is at-least-once)';
+COMMENT ON COLUMN outbox_events.aggregate_id IS 'Operation the event is about';
@@ -0,0 +1,163 @@
+package com.ledgerservice.application;
+
+import com.ledgerservice.application.exceptions.InvalidRequestException;
+import com.ledgerservice.application.usecases.AnalyzeDivergenceUseCase;
+import com.ledgerservice.application.usecases.AnalyzeDivergenceUseCase.DivergenceAnalysisResult;
+import com.ledgerservice.application.usecases.AnalyzeDivergenceUseCase.EntryCursor;
+import com.ledgerservice.application.usecases.ProcessOperationUseCase;
+import com.ledgerservice.application.usecases.ReconcileAccountUseCase;
+import com.ledgerservice.domain.entities.Account;
+import com.ledgerservice.domain.enums.AccountType;
+import com.ledgerservice.domain.enums.OperationType;
+import com.ledgerservice.domain.valueobjects.ExternalReference;
+import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.infrastructure.idempotency.IdempotencyCache;
+import com.ledgerservice.infrastructure.persistence.entities.EntryJpaEntity;
+import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
+import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.OperationJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.ReconciliationRecordJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for AnalyzeDivergenceUseCase
+ * Uses Testcontainers for PostgreSQL
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AnalyzeDivergenceUseCaseTest {
+
+    @Autowired
+    private AnalyzeDivergenceUseCase analyzeDivergenceUseCase;
+
+    @Autowired
+    private ReconcileAccountUseCase reconcileAccountUseCase;
+
+    @Autowired
+    private ProcessOperationUseCase processOperationUseCase;
+
+    @Autowired
+    private AccountJpaRepository accountRepository;
+
+    @Autowired
+    private OperationJpaRepository operationRepository;
+
+    @Autowired
+    private EntryJpaRepository entryRepository;
+
+    @Autowired
+    private ReconciliationRecordJpaRepository reconciliationRepository;
+
+    @Autowired
+    private IdempotencyCache idempotencyCache;
+
+    private UUID accountId;
+    private UUID otherAccountId;
+    private UUID reconciliationId;
+
+    @BeforeEach
+    void setUp() {
+        // Clean database
+        reconciliationRepository.deleteAll();
+        entryRepository.deleteAll();
+        operationRepository.deleteAll();
+        accountRepository.deleteAll();
+        idempotencyCache.clear();
+
+        Account account = Account.create(AccountType.USER);
+        Account otherAccount = Account.create(AccountType.USER);
+        accountRepository.save(EntityMapper.toJpa(account));
+        accountRepository.save(EntityMapper.toJpa(otherAccount));
+        accountId = account.getId();
+        otherAccountId = otherAccount.getId();
+
+        for (int i = 1; i <= 5; i++) {
+            deposit("DIVERGENCE-DEP-00" + i, accountId);
+        }
+        deposit("DIVERGENCE-OTHER-001", otherAccountId);
+
+        // Expected 0, calculated 50: a mismatch
+        reconcileAccountUseCase.execute(accountId, Money.zero());
+        reconciliationId = reconciliationRepository.findByAccountIdOrderByCreatedAtDesc(accountId)
+                .getFirst()
+                .getId();
+    }
+
+    @Test
+    void shouldRejectEntryLimitOutOfBounds() {
+        assertThrows(InvalidRequestException.class, () -> analyzeDivergenceUseCase.execute(reconciliationId, 0));
+        assertThrows(InvalidRequestException.class, () -> analyzeDivergenceUseCase.execute(
+                reconciliationId, AnalyzeDivergenceUseCase.MAX_ENTRY_LIMIT + 1));
+
+        assertEquals(1, analyzeDivergenceUseCase.execute(reconciliationId, 1).recentEntries().size());
+        assertEquals(5, analyzeDivergenceUseCase
+                .execute(reconciliationId, AnalyzeDivergenceUseCase.MAX_ENTRY_LIMIT)
+                .recentEntries()
+                .size());
+    }
+
+    @Test
+    void shouldPageBackThroughEveryEntryWithTheCursor() {
+        // When
+        List<EntryJpaEntity> seen = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            DivergenceAnalysisResult page = analyzeDivergenceUseCase.execute(reconciliationId, 2, cursor);
+            seen.addAll(page.recentEntries());
+            pageSizes.add(page.recentEntries().size());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // Then
+        assertEquals(List.of(2, 2, 1), pageSizes);
+        assertEquals(5, new HashSet<>(seen.stream().map(EntryJpaEntity::getId).toList()).size());
+        assertTrue(seen.stream().allMatch(entry -> entry.getAccountId().equals(accountId)));
+
+        // Newest first across pages
+        List<EntryJpaEntity> newestFirst = new ArrayList<>(seen);
+        newestFirst.sort(Comparator.comparing(EntryJpaEntity::getCreatedAt).reversed());
+        assertEquals(
+                newestFirst.stream().map(EntryJpaEntity::getCreatedAt).toList(),
+                seen.stream().map(EntryJpaEntity::getCreatedAt).toList());
+    }
+
+    @Test
+    void shouldRejectCursorOfAnotherAccount() {
+        EntryJpaEntity foreign = entryRepository.findLatest(otherAccountId, 1).getFirst();
+        String cursor = new EntryCursor(foreign.getCreatedAt(), foreign.getId()).encode();
+
+        InvalidRequestException ex = assertThrows(InvalidRequestException.class,
+                () -> analyzeDivergenceUseCase.execute(reconciliationId, 2, cursor));
+        assertTrue(ex.getMessage().startsWith("Cursor entry not found for account"));
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThrows(InvalidRequestException.class,
+                () -> analyzeDivergenceUseCase.execute(reconciliationId, 2, "not-a-cursor"));
+    }
+
+    private void deposit(String reference, UUID target) {
+        processOperationUseCase.execute(new ProcessOperationUseCase.ProcessOperationCommand(
+                ExternalReference.of(reference),
+                OperationType.DEPOSIT,
+                null,
+                target,
+                Money.of("10.00"),
+                "test"));
+    }
+}
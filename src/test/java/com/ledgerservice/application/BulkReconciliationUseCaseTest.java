@@ -0,0 +1,177 @@
+package com.ledgerservice.application;
+
+import com.ledgerservice.application.usecases.BulkReconciliationUseCase;
+import com.ledgerservice.application.usecases.BulkReconciliationUseCase.Format;
+import com.ledgerservice.application.usecases.BulkReconciliationUseCase.JobProgress;
+import com.ledgerservice.application.usecases.BulkReconciliationUseCase.Status;
+import com.ledgerservice.application.usecases.ProcessOperationUseCase;
+import com.ledgerservice.domain.entities.Account;
+import com.ledgerservice.domain.enums.AccountType;
+import com.ledgerservice.domain.enums.OperationType;
+import com.ledgerservice.domain.enums.ReconciliationStatus;
+import com.ledgerservice.domain.valueobjects.ExternalReference;
+import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.infrastructure.idempotency.IdempotencyCache;
+import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
+import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.OperationJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.ReconciliationRecordJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.ReconciliationStatsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for BulkReconciliationUseCase
+ * Uses Testcontainers for PostgreSQL
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BulkReconciliationUseCaseTest {
+
+    @Autowired
+    private BulkReconciliationUseCase bulkReconciliationUseCase;
+
+    @Autowired
+    private ProcessOperationUseCase processOperationUseCase;
+
+    @Autowired
+    private AccountJpaRepository accountRepository;
+
+    @Autowired
+    private OperationJpaRepository operationRepository;
+
+    @Autowired
+    private EntryJpaRepository entryRepository;
+
+    @Autowired
+    private ReconciliationRecordJpaRepository reconciliationRepository;
+
+    @Autowired
+    private ReconciliationStatsRepository reconciliationStatsRepository;
+
+    @Autowired
+    private IdempotencyCache idempotencyCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private UUID fundedAccountId;
+    private UUID emptyAccountId;
+
+    @BeforeEach
+    void setUp() {
+        // Clean database
+        reconciliationRepository.deleteAll();
+        entryRepository.deleteAll();
+        operationRepository.deleteAll();
+        accountRepository.deleteAll();
+        idempotencyCache.clear();
+
+        Account fundedAccount = Account.create(AccountType.USER);
+        Account emptyAccount = Account.create(AccountType.USER);
+
+        accountRepository.save(EntityMapper.toJpa(fundedAccount));
+        accountRepository.save(EntityMapper.toJpa(emptyAccount));
+
+        fundedAccountId = fundedAccount.getId();
+        emptyAccountId = emptyAccount.getId();
+
+        processOperationUseCase.execute(new ProcessOperationUseCase.ProcessOperationCommand(
+                ExternalReference.of("BULK-DEP-001"),
+                OperationType.DEPOSIT,
+                null,
+                fundedAccountId,
+                Money.of("100.00"),
+                "test"));
+    }
+
+    @Test
+    void shouldReconcileEveryRowOfCsvStatement() throws InterruptedException {
+        // Given
+        String statement = """
+                account_id,expected_balance
+                %s,100.00
+                %s,25.00
+                %s,10.00
+                not-a-uuid,10.00
+                %s,1000000000000000000000.00
+                """.formatted(fundedAccountId, emptyAccountId, UUID.randomUUID(), fundedAccountId);
+        double matchesBefore = reconciliationResults("match");
+        double mismatchesBefore = reconciliationResults("mismatch");
+
+        // When
+        JobProgress progress = awaitCompletion(submit(statement, Format.CSV));
+
+        // Then
+        assertEquals(Status.COMPLETED, progress.status());
+        assertEquals(5, progress.rowsRead());
+        assertEquals(2, progress.reconciled());
+        assertEquals(1, progress.mismatched());
+        assertEquals(3, progress.failed());
+        assertEquals(3, progress.errors().size());
+        assertEquals(1.0, reconciliationResults("match") - matchesBefore);
+        assertEquals(1.0, reconciliationResults("mismatch") - mismatchesBefore);
+
+        var funded = reconciliationRepository.findByAccountIdOrderByCreatedAtDesc(fundedAccountId);
+        assertEquals(1, funded.size());
+        assertEquals(ReconciliationStatus.MATCH, funded.getFirst().getStatus());
+
+        var empty = reconciliationRepository.findByAccountIdOrderByCreatedAtDesc(emptyAccountId);
+        assertEquals(1, empty.size());
+        assertEquals(ReconciliationStatus.MISMATCH, empty.getFirst().getStatus());
+        assertEquals(0, new BigDecimal("25.00").compareTo(empty.getFirst().getDifference()));
+
+        var summary = reconciliationStatsRepository.summarize();
+        assertEquals(1, summary.accountsWithMismatch());
+        assertEquals(0, new BigDecimal("25.00").compareTo(summary.largestDifference()));
+    }
+
+    @Test
+    void shouldReconcileNdjsonStatement() throws InterruptedException {
+        // Given
+        String statement = """
+                {"accountId":"%s","expectedBalance":100.00}
+                {"accountId":"%s","expectedBalance":0}
+                """.formatted(fundedAccountId, emptyAccountId);
+
+        // When
+        JobProgress progress = awaitCompletion(submit(statement, Format.NDJSON));
+
+        // Then
+        assertEquals(Status.COMPLETED, progress.status());
+        assertEquals(2, progress.reconciled());
+        assertEquals(0, progress.mismatched());
+        assertEquals(0, progress.failed());
+    }
+
+    private double reconciliationResults(String status) {
+        return meterRegistry.get("ledger.reconciliation.results").tag("status", status).counter().count();
+    }
+
+    private JobProgress submit(String statement, Format format) {
+        return bulkReconciliationUseCase.submit(
+                new ByteArrayInputStream(statement.getBytes(StandardCharsets.UTF_8)), format);
+    }
+
+    private JobProgress awaitCompletion(JobProgress submitted) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            JobProgress progress = bulkReconciliationUseCase.find(submitted.jobId()).orElseThrow();
+            if (progress.status() != Status.RUNNING)
+                return progress;
+            Thread.sleep(100);
+        }
+        return fail("Bulk reconciliation job did not finish");
+    }
+}
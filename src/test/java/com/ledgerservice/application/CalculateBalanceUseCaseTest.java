@@ -1,12 +1,15 @@
 package com.ledgerservice.application;
 
+import com.ledgerservice.application.services.BalanceMode;
 import com.ledgerservice.application.usecases.CalculateBalanceUseCase;
+import com.ledgerservice.application.usecases.CalculateBalancesUseCase;
 import com.ledgerservice.application.usecases.ProcessOperationUseCase;
 import com.ledgerservice.domain.entities.Account;
 import com.ledgerservice.domain.enums.AccountType;
 import com.ledgerservice.domain.enums.OperationType;
 import com.ledgerservice.domain.valueobjects.ExternalReference;
 import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.infrastructure.idempotency.IdempotencyCache;
 import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
 import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
 import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaRepository;
@@ -17,6 +20,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -31,6 +36,9 @@ class CalculateBalanceUseCaseTest {
     @Autowired
     private CalculateBalanceUseCase calculateBalanceUseCase;
 
+    @Autowired
+    private CalculateBalancesUseCase calculateBalancesUseCase;
+
     @Autowired
     private ProcessOperationUseCase processOperationUseCase;
 
@@ -43,6 +51,9 @@ class CalculateBalanceUseCaseTest {
     @Autowired
     private EntryJpaRepository entryRepository;
 
+    @Autowired
+    private IdempotencyCache idempotencyCache;
+
     private UUID accountId;
 
     @BeforeEach
@@ -51,6 +62,7 @@ class CalculateBalanceUseCaseTest {
         entryRepository.deleteAll();
         operationRepository.deleteAll();
         accountRepository.deleteAll();
+        idempotencyCache.clear();
 
         // Create test account
         Account account = Account.create(AccountType.USER);
@@ -115,4 +127,130 @@ class CalculateBalanceUseCaseTest {
         assertEquals(Money.of("150.00"), result.balance());
         assertEquals(2, result.entriesCount());
     }
+
+    @Test
+    void shouldReturnSameBalanceInAggregateAndVerifyModes() {
+        // Given - a deposit and a withdrawal
+        processOperationUseCase.execute(new ProcessOperationUseCase.ProcessOperationCommand(
+                ExternalReference.of("DEP-001"),
+                OperationType.DEPOSIT,
+                null,
+                accountId,
+                Money.of("100.00"),
+                "test"));
+
+        processOperationUseCase.execute(new ProcessOperationUseCase.ProcessOperationCommand(
+                ExternalReference.of("WDR-001"),
+                OperationType.WITHDRAWAL,
+                accountId,
+                null,
+                Money.of("40.00"),
+                "test"));
+
+        // When
+        var aggregated = calculateBalanceUseCase.execute(accountId, BalanceMode.AGGREGATE);
+        var verified = calculateBalanceUseCase.execute(accountId, BalanceMode.VERIFY);
+
+        // Then
+        assertEquals(Money.of("60.00"), aggregated.balance());
+        assertEquals(aggregated.balance(), verified.balance());
+        assertEquals(aggregated.entriesCount(), verified.entriesCount());
+    }
+
+    @Test
+    void shouldCalculateBalanceAsOfInstant() throws InterruptedException {
+        // Given - one deposit before the instant, one after
+        processOperationUseCase.execute(new ProcessOperationUseCase.ProcessOperationCommand(
+                ExternalReference.of("DEP-001"),
+                OperationType.DEPOSIT,
+                null,
+                accountId,
+                Money.of("100.00"),
+                "test"));
+        Thread.sleep(10);
+        LocalDateTime asOf = LocalDateTime.now();
+        Thread.sleep(10);
+        processOperationUseCase.execute(new ProcessOperationUseCase.ProcessOperationCommand(
+                ExternalReference.of("DEP-002"),
+                OperationType.DEPOSIT,
+                null,
+                accountId,
+                Money.of("50.00"),
+                "test"));
+
+        // When
+        var aggregated = calculateBalanceUseCase.executeAsOf(accountId, asOf, BalanceMode.AGGREGATE);
+        var verified = calculateBalanceUseCase.executeAsOf(accountId, asOf, BalanceMode.VERIFY);
+
+        // Then
+        assertEquals(Money.of("100.00"), aggregated.balance());
+        assertEquals(1, aggregated.entriesCount());
+        assertEquals(asOf, aggregated.asOf());
+        assertEquals(aggregated.balance(), verified.balance());
+        assertEquals(aggregated.entriesCount(), verified.entriesCount());
+    }
+
+    @Test
+    void shouldRejectBalanceAsOfFutureInstant() {
+        assertThrows(IllegalArgumentException.class, () -> calculateBalanceUseCase.executeAsOf(
+                accountId, LocalDateTime.now().plusDays(1), BalanceMode.AGGREGATE));
+    }
+
+    @Test
+    void shouldReturnPointInTimeBalancesInRequestOrder() {
+        // Given
+        processOperationUseCase.execute(new ProcessOperationUseCase.ProcessOperationCommand(
+                ExternalReference.of("DEP-001"),
+                OperationType.DEPOSIT,
+                null,
+                accountId,
+                Money.of("100.00"),
+                "test"));
+        Account emptyAccount = Account.create(AccountType.USER);
+        accountRepository.save(EntityMapper.toJpa(emptyAccount));
+        UUID unknownAccountId = UUID.randomUUID();
+
+        // When
+        var balances = calculateBalancesUseCase.executeAsOf(
+                List.of(unknownAccountId, accountId, emptyAccount.getId()),
+                LocalDateTime.now());
+
+        // Then
+        assertEquals(3, balances.size());
+        assertEquals(unknownAccountId, balances.get(0).accountId());
+        assertFalse(balances.get(0).found());
+        assertEquals(Money.of("100.00"), balances.get(1).balance());
+        assertEquals(1, balances.get(1).entriesCount());
+        assertTrue(balances.get(2).found());
+        assertTrue(balances.get(2).balance().isZero());
+    }
+
+    @Test
+    void shouldReturnCurrentBalancesInRequestOrderWithNotFoundMarkers() {
+        // Given
+        processOperationUseCase.execute(new ProcessOperationUseCase.ProcessOperationCommand(
+                ExternalReference.of("DEP-001"),
+                OperationType.DEPOSIT,
+                null,
+                accountId,
+                Money.of("100.00"),
+                "test"));
+        Account emptyAccount = Account.create(AccountType.USER);
+        accountRepository.save(EntityMapper.toJpa(emptyAccount));
+        UUID unknownAccountId = UUID.randomUUID();
+
+        // When
+        var balances = calculateBalancesUseCase.execute(
+                List.of(emptyAccount.getId(), unknownAccountId, accountId, accountId));
+
+        // Then
+        assertEquals(4, balances.size());
+        assertTrue(balances.get(0).found());
+        assertTrue(balances.get(0).balance().isZero());
+        assertFalse(balances.get(1).found());
+        assertNull(balances.get(1).balance());
+        assertEquals(Money.of("100.00"), balances.get(2).balance());
+        assertEquals(balances.get(2), balances.get(3));
+        assertEquals(calculateBalanceUseCase.execute(accountId).balance(), balances.get(2).balance());
+    }
 }
@@ -0,0 +1,147 @@
+package com.ledgerservice.application;
+
+import com.ledgerservice.application.exceptions.InvalidRequestException;
+import com.ledgerservice.application.usecases.ExportEntriesUseCase;
+import com.ledgerservice.application.usecases.ExportEntriesUseCase.Format;
+import com.ledgerservice.application.usecases.ProcessOperationUseCase;
+import com.ledgerservice.domain.entities.Account;
+import com.ledgerservice.domain.enums.AccountType;
+import com.ledgerservice.domain.enums.OperationType;
+import com.ledgerservice.domain.exceptions.AccountNotFoundException;
+import com.ledgerservice.domain.valueobjects.ExternalReference;
+import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.infrastructure.idempotency.IdempotencyCache;
+import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
+import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.OperationJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for ExportEntriesUseCase
+ * Uses Testcontainers for PostgreSQL
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ExportEntriesUseCaseTest {
+
+    private static final String TRICKY_SOURCE = "psp,\"quoted\"\nline";
+
+    @Autowired
+    private ExportEntriesUseCase exportEntriesUseCase;
+
+    @Autowired
+    private ProcessOperationUseCase processOperationUseCase;
+
+    @Autowired
+    private AccountJpaRepository accountRepository;
+
+    @Autowired
+    private OperationJpaRepository operationRepository;
+
+    @Autowired
+    private EntryJpaRepository entryRepository;
+
+    @Autowired
+    private IdempotencyCache idempotencyCache;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        // Clean database
+        entryRepository.deleteAll();
+        operationRepository.deleteAll();
+        accountRepository.deleteAll();
+        idempotencyCache.clear();
+
+        Account account = Account.create(AccountType.USER);
+        accountRepository.save(EntityMapper.toJpa(account));
+        accountId = account.getId();
+
+        for (int i = 1; i <= 3; i++) {
+            processOperationUseCase.execute(new ProcessOperationUseCase.ProcessOperationCommand(
+                    ExternalReference.of("EXPORT-DEP-00" + i),
+                    OperationType.DEPOSIT,
+                    null,
+                    accountId,
+                    Money.of(i + "0.00"),
+                    TRICKY_SOURCE));
+        }
+    }
+
+    @Test
+    void shouldStreamEveryEntryAsNdjsonOldestFirst() {
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long rows = exportEntriesUseCase.prepare(accountId, Format.NDJSON, null, null).writeTo(output);
+
+        // Then
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(3, rows);
+        assertEquals(3, lines.size());
+
+        LocalDateTime previous = LocalDateTime.MIN;
+        for (String line : lines) {
+            JsonNode node = jsonMapper.readTree(line);
+            assertEquals(accountId.toString(), node.get("accountId").asString());
+            assertEquals(TRICKY_SOURCE, node.get("source").asString());
+            LocalDateTime createdAt = LocalDateTime.parse(node.get("createdAt").asString());
+            assertFalse(createdAt.isBefore(previous));
+            previous = createdAt;
+        }
+    }
+
+    @Test
+    void shouldStreamCsvWithHeaderAndQuotedFields() {
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long rows = exportEntriesUseCase.prepare(accountId, Format.CSV, null, null).writeTo(output);
+
+        // Then
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertEquals(3, rows);
+        assertTrue(csv.startsWith("id,operation_id,account_id,amount,direction,entry_type,source,created_at\n"));
+        // The embedded newline stays inside its quoted field
+        assertEquals(3, csv.split("\"psp,\"\"quoted\"\"\nline\"", -1).length - 1);
+    }
+
+    @Test
+    void shouldOnlyStreamEntriesOfTheRange() {
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long rows = exportEntriesUseCase
+                .prepare(accountId, Format.NDJSON, LocalDateTime.now().plusDays(1), null)
+                .writeTo(output);
+
+        // Then
+        assertEquals(0, rows);
+        assertEquals(0, output.size());
+    }
+
+    @Test
+    void shouldRejectUnknownAccountAndEmptyRange() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThrows(AccountNotFoundException.class,
+                () -> exportEntriesUseCase.prepare(UUID.randomUUID(), Format.CSV, null, null));
+        assertThrows(InvalidRequestException.class,
+                () -> exportEntriesUseCase.prepare(accountId, Format.CSV, now, now));
+    }
+}
@@ -0,0 +1,178 @@
+package com.ledgerservice.application;
+
+import com.ledgerservice.application.usecases.GetReconciliationDashboardUseCase;
+import com.ledgerservice.application.usecases.GetReconciliationDashboardUseCase.DashboardResult;
+import com.ledgerservice.application.usecases.ProcessOperationUseCase;
+import com.ledgerservice.application.usecases.ReconcileAccountUseCase;
+import com.ledgerservice.domain.entities.Account;
+import com.ledgerservice.domain.entities.ReconciliationRecord;
+import com.ledgerservice.domain.enums.AccountType;
+import com.ledgerservice.domain.enums.OperationType;
+import com.ledgerservice.domain.valueobjects.ExternalReference;
+import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.infrastructure.idempotency.IdempotencyCache;
+import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
+import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.OperationJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.ReconciliationRecordJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for GetReconciliationDashboardUseCase and the per-account
+ * stats behind it (reconciliation_account_stats, V8)
+ * Uses Testcontainers for PostgreSQL
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class GetReconciliationDashboardUseCaseTest {
+
+    @Autowired
+    private GetReconciliationDashboardUseCase getReconciliationDashboardUseCase;
+
+    @Autowired
+    private ReconcileAccountUseCase reconcileAccountUseCase;
+
+    @Autowired
+    private ProcessOperationUseCase processOperationUseCase;
+
+    @Autowired
+    private AccountJpaRepository accountRepository;
+
+    @Autowired
+    private OperationJpaRepository operationRepository;
+
+    @Autowired
+    private EntryJpaRepository entryRepository;
+
+    @Autowired
+    private ReconciliationRecordJpaRepository reconciliationRepository;
+
+    @Autowired
+    private IdempotencyCache idempotencyCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID fundedAccountId;
+    private UUID emptyAccountId;
+
+    @BeforeEach
+    void setUp() {
+        // Clean database (stats are removed with their accounts)
+        reconciliationRepository.deleteAll();
+        entryRepository.deleteAll();
+        operationRepository.deleteAll();
+        accountRepository.deleteAll();
+        idempotencyCache.clear();
+
+        Account fundedAccount = Account.create(AccountType.USER);
+        Account emptyAccount = Account.create(AccountType.USER);
+        Account neverReconciled = Account.create(AccountType.USER);
+        accountRepository.save(EntityMapper.toJpa(fundedAccount));
+        accountRepository.save(EntityMapper.toJpa(emptyAccount));
+        accountRepository.save(EntityMapper.toJpa(neverReconciled));
+        fundedAccountId = fundedAccount.getId();
+        emptyAccountId = emptyAccount.getId();
+
+        processOperationUseCase.execute(new ProcessOperationUseCase.ProcessOperationCommand(
+                ExternalReference.of("DASHBOARD-DEP-001"),
+                OperationType.DEPOSIT,
+                null,
+                fundedAccountId,
+                Money.of("100.00"),
+                "test"));
+    }
+
+    @Test
+    void shouldAggregateSeveralReconciliationsOfTheSameAccount() {
+        // Given: balance 100, reconciled three times
+        reconcileAccountUseCase.execute(fundedAccountId, Money.of("100.00"));
+        reconcileAccountUseCase.execute(fundedAccountId, Money.of("70.00"));
+        reconcileAccountUseCase.execute(fundedAccountId, Money.of("90.00"));
+
+        // Then
+        Map<String, Object> stats = jdbcTemplate.queryForMap(
+                "SELECT * FROM reconciliation_account_stats WHERE account_id = ?", fundedAccountId);
+        assertEquals(3L, ((Number) stats.get("reconciliation_count")).longValue());
+        assertEquals(2L, ((Number) stats.get("mismatch_count")).longValue());
+        assertEquals(0, new BigDecimal("30.00").compareTo((BigDecimal) stats.get("max_abs_difference")));
+
+        DashboardResult dashboard = getReconciliationDashboardUseCase.execute();
+        assertEquals(3, dashboard.totalAccounts());
+        assertEquals(1, dashboard.accountsWithMismatch());
+        assertEquals(0, new BigDecimal("30.00").compareTo(dashboard.largestDifference()));
+    }
+
+    @Test
+    void shouldSummarizeAcrossAccounts() {
+        // Given
+        reconcileAccountUseCase.execute(fundedAccountId, Money.of("100.00"));
+        reconcileAccountUseCase.execute(fundedAccountId, Money.of("99.00"));
+        reconcileAccountUseCase.execute(emptyAccountId, Money.of("-5.00"));
+        reconcileAccountUseCase.execute(emptyAccountId, Money.zero());
+
+        // When
+        DashboardResult dashboard = getReconciliationDashboardUseCase.execute();
+
+        // Then
+        assertEquals(3, dashboard.totalAccounts());
+        assertEquals(2, dashboard.accountsWithMismatch());
+        assertEquals(0, new BigDecimal("5.00").compareTo(dashboard.largestDifference()));
+
+        List<ReconciliationRecord> recent = dashboard.recentReconciliations();
+        assertEquals(4, recent.size());
+        for (int i = 1; i < recent.size(); i++) {
+            LocalDateTime newer = recent.get(i - 1).getCreatedAt();
+            assertFalse(recent.get(i).getCreatedAt().isAfter(newer));
+        }
+    }
+
+    @Test
+    void shouldKeepStatsEqualToTheReconciliationHistory() {
+        // Given
+        reconcileAccountUseCase.execute(fundedAccountId, Money.of("100.00"));
+        reconcileAccountUseCase.execute(fundedAccountId, Money.of("120.00"));
+        reconcileAccountUseCase.execute(emptyAccountId, Money.of("3.50"));
+
+        // Then: incremental stats match the V8 backfill aggregate
+        List<Map<String, Object>> incremental = jdbcTemplate.queryForList("""
+                SELECT account_id, reconciliation_count, mismatch_count, max_abs_difference
+                FROM reconciliation_account_stats
+                ORDER BY account_id
+                """);
+        List<Map<String, Object>> recomputed = jdbcTemplate.queryForList("""
+                SELECT account_id,
+                       COUNT(*) AS reconciliation_count,
+                       COUNT(*) FILTER (WHERE status = 'mismatch') AS mismatch_count,
+                       MAX(ABS(difference)) AS max_abs_difference
+                FROM reconciliation_records
+                GROUP BY account_id
+                ORDER BY account_id
+                """);
+        assertEquals(recomputed, incremental);
+    }
+
+    @Test
+    void shouldReturnEmptyDashboardWithoutReconciliations() {
+        DashboardResult dashboard = getReconciliationDashboardUseCase.execute();
+
+        assertEquals(3, dashboard.totalAccounts());
+        assertEquals(0, dashboard.accountsWithMismatch());
+        assertEquals(0, BigDecimal.ZERO.compareTo(dashboard.largestDifference()));
+        assertTrue(dashboard.recentReconciliations().isEmpty());
+    }
+}
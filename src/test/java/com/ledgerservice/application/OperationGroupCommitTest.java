@@ -0,0 +1,118 @@
+package com.ledgerservice.application;
+
+import com.ledgerservice.application.usecases.ProcessOperationUseCase;
+import com.ledgerservice.domain.entities.Account;
+import com.ledgerservice.domain.entities.Operation;
+import com.ledgerservice.domain.enums.AccountType;
+import com.ledgerservice.domain.enums.OperationType;
+import com.ledgerservice.domain.exceptions.AccountNotFoundException;
+import com.ledgerservice.domain.valueobjects.ExternalReference;
+import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.infrastructure.idempotency.IdempotencyCache;
+import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
+import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.OperationJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for ProcessOperationUseCase with group commit enabled
+ * Uses Testcontainers for PostgreSQL
+ */
+@SpringBootTest(properties = "ledger.operations.group-commit.enabled=true")
+@ActiveProfiles("test")
+class OperationGroupCommitTest {
+
+    @Autowired
+    private ProcessOperationUseCase processOperationUseCase;
+
+    @Autowired
+    private AccountJpaRepository accountRepository;
+
+    @Autowired
+    private OperationJpaRepository operationRepository;
+
+    @Autowired
+    private EntryJpaRepository entryRepository;
+
+    @Autowired
+    private IdempotencyCache idempotencyCache;
+
+    private UUID targetAccountId;
+
+    @BeforeEach
+    void setUp() {
+        // Clean database
+        entryRepository.deleteAll();
+        operationRepository.deleteAll();
+        accountRepository.deleteAll();
+        idempotencyCache.clear();
+
+        Account targetAccount = Account.create(AccountType.USER);
+        accountRepository.save(EntityMapper.toJpa(targetAccount));
+        targetAccountId = targetAccount.getId();
+    }
+
+    @Test
+    void shouldWriteConcurrentOperationsOnceEach() throws Exception {
+        // 50 distinct references, each sent 4 times at the same time
+        List<ProcessOperationUseCase.ProcessOperationCommand> commands = IntStream.range(0, 200)
+                .mapToObj(i -> deposit("GROUP-" + (i % 50), targetAccountId))
+                .toList();
+
+        List<Operation> results;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Operation>> futures = commands.stream()
+                    .map(command -> executor.submit(() -> processOperationUseCase.execute(command)))
+                    .toList();
+            results = futures.stream().map(future -> {
+                try {
+                    return future.get();
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }).toList();
+        }
+
+        assertEquals(50, operationRepository.count());
+        assertEquals(50, entryRepository.count());
+        for (int i = 0; i < commands.size(); i++) {
+            Operation expected = EntityMapper.toDomain(operationRepository
+                    .findByExternalReference(commands.get(i).externalReference().getValue())
+                    .orElseThrow());
+            assertEquals(expected.getId(), results.get(i).getId());
+        }
+    }
+
+    @Test
+    void shouldRaiseDomainExceptionOfRejectedOperation() {
+        UUID unknownAccount = UUID.randomUUID();
+
+        assertThrows(AccountNotFoundException.class,
+                () -> processOperationUseCase.execute(deposit("GROUP-UNKNOWN", unknownAccount)));
+        assertEquals(0, operationRepository.count());
+    }
+
+    private static ProcessOperationUseCase.ProcessOperationCommand deposit(String reference, UUID target) {
+        return new ProcessOperationUseCase.ProcessOperationCommand(
+                ExternalReference.of(reference),
+                OperationType.DEPOSIT,
+                null,
+                target,
+                Money.of("10.00"),
+                "test");
+    }
+}
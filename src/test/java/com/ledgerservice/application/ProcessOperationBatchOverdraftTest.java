@@ -0,0 +1,112 @@
+package com.ledgerservice.application;
+
+import com.ledgerservice.application.usecases.ProcessOperationBatchUseCase;
+import com.ledgerservice.application.usecases.ProcessOperationBatchUseCase.ItemStatus;
+import com.ledgerservice.application.usecases.ProcessOperationUseCase;
+import com.ledgerservice.domain.entities.Account;
+import com.ledgerservice.domain.enums.AccountType;
+import com.ledgerservice.domain.enums.OperationType;
+import com.ledgerservice.domain.valueobjects.ExternalReference;
+import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.infrastructure.idempotency.IdempotencyCache;
+import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
+import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.OperationJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for ProcessOperationBatchUseCase with overdraft protection
+ * on USER accounts and SYSTEM as a hot account type
+ * Uses Testcontainers for PostgreSQL
+ */
+@SpringBootTest(properties = {
+        "ledger.overdraft.protected-account-types=USER",
+        "ledger.hot-accounts.account-types=SYSTEM,TRANSIT"
+})
+@ActiveProfiles("test")
+class ProcessOperationBatchOverdraftTest {
+
+    @Autowired
+    private ProcessOperationBatchUseCase processOperationBatchUseCase;
+
+    @Autowired
+    private AccountJpaRepository accountRepository;
+
+    @Autowired
+    private OperationJpaRepository operationRepository;
+
+    @Autowired
+    private EntryJpaRepository entryRepository;
+
+    @Autowired
+    private IdempotencyCache idempotencyCache;
+
+    private UUID userAccountId;
+    private UUID systemAccountId;
+
+    @BeforeEach
+    void setUp() {
+        // Clean database
+        entryRepository.deleteAll();
+        operationRepository.deleteAll();
+        accountRepository.deleteAll();
+        idempotencyCache.clear();
+
+        Account userAccount = Account.create(AccountType.USER);
+        Account systemAccount = Account.create(AccountType.SYSTEM);
+
+        accountRepository.save(EntityMapper.toJpa(userAccount));
+        accountRepository.save(EntityMapper.toJpa(systemAccount));
+
+        userAccountId = userAccount.getId();
+        systemAccountId = systemAccount.getId();
+    }
+
+    @Test
+    void shouldCheckProtectedDebitsNextToHotAccountDebits() {
+        var commands = List.of(
+                // Funds the user account from the hot account (unchecked debit)
+                transfer("OVERDRAFT-001", systemAccountId, userAccountId, "100.00"),
+                // Protected debit covered by the transfer above
+                transfer("OVERDRAFT-002", userAccountId, systemAccountId, "60.00"),
+                // Protected debit beyond what is left
+                transfer("OVERDRAFT-003", userAccountId, systemAccountId, "60.00"),
+                // Hot account debit, never checked
+                command("OVERDRAFT-004", OperationType.WITHDRAWAL, systemAccountId, null, "1000.00"));
+
+        var result = processOperationBatchUseCase.execute(commands);
+
+        var items = result.items();
+        assertEquals(ItemStatus.CREATED, items.get(0).status());
+        assertEquals(ItemStatus.CREATED, items.get(1).status());
+        assertEquals(ItemStatus.REJECTED, items.get(2).status());
+        assertEquals(ItemStatus.CREATED, items.get(3).status());
+        assertEquals(3, operationRepository.count());
+    }
+
+    private ProcessOperationUseCase.ProcessOperationCommand transfer(
+            String reference, UUID sourceId, UUID targetId, String amount) {
+        return command(reference, OperationType.TRANSFER, sourceId, targetId, amount);
+    }
+
+    private ProcessOperationUseCase.ProcessOperationCommand command(
+            String reference, OperationType type, UUID sourceId, UUID targetId, String amount) {
+        return new ProcessOperationUseCase.ProcessOperationCommand(
+                ExternalReference.of(reference),
+                type,
+                sourceId,
+                targetId,
+                Money.of(amount),
+                "test");
+    }
+}
@@ -0,0 +1,142 @@
+package com.ledgerservice.application;
+
+import com.ledgerservice.application.usecases.ProcessOperationBatchUseCase;
+import com.ledgerservice.application.usecases.ProcessOperationBatchUseCase.ItemStatus;
+import com.ledgerservice.application.usecases.ProcessOperationUseCase;
+import com.ledgerservice.domain.entities.Account;
+import com.ledgerservice.domain.enums.AccountType;
+import com.ledgerservice.domain.enums.OperationType;
+import com.ledgerservice.domain.valueobjects.ExternalReference;
+import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.infrastructure.idempotency.IdempotencyCache;
+import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
+import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.OperationJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for ProcessOperationBatchUseCase
+ * Uses Testcontainers for PostgreSQL
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProcessOperationBatchUseCaseTest {
+
+    @Autowired
+    private ProcessOperationBatchUseCase processOperationBatchUseCase;
+
+    @Autowired
+    private ProcessOperationUseCase processOperationUseCase;
+
+    @Autowired
+    private AccountJpaRepository accountRepository;
+
+    @Autowired
+    private OperationJpaRepository operationRepository;
+
+    @Autowired
+    private EntryJpaRepository entryRepository;
+
+    @Autowired
+    private IdempotencyCache idempotencyCache;
+
+    private UUID sourceAccountId;
+    private UUID targetAccountId;
+
+    @BeforeEach
+    void setUp() {
+        // Clean database
+        entryRepository.deleteAll();
+        operationRepository.deleteAll();
+        accountRepository.deleteAll();
+        idempotencyCache.clear();
+
+        Account sourceAccount = Account.create(AccountType.USER);
+        Account targetAccount = Account.create(AccountType.USER);
+
+        accountRepository.save(EntityMapper.toJpa(sourceAccount));
+        accountRepository.save(EntityMapper.toJpa(targetAccount));
+
+        sourceAccountId = sourceAccount.getId();
+        targetAccountId = targetAccount.getId();
+    }
+
+    @Test
+    void shouldReportPerItemStatusInRequestOrder() {
+        // Given - one operation already processed through the single endpoint
+        processOperationUseCase.execute(deposit("BATCH-EXISTING", targetAccountId));
+
+        var commands = List.of(
+                deposit("BATCH-001", targetAccountId),
+                deposit("BATCH-EXISTING", targetAccountId),
+                transfer("BATCH-002", sourceAccountId, targetAccountId),
+                deposit("BATCH-001", targetAccountId),
+                deposit("BATCH-003", UUID.randomUUID()));
+
+        // When
+        var result = processOperationBatchUseCase.execute(commands);
+
+        // Then
+        var items = result.items();
+        assertEquals(5, items.size());
+        assertEquals(ItemStatus.CREATED, items.get(0).status());
+        assertEquals(ItemStatus.DUPLICATE, items.get(1).status());
+        assertEquals(ItemStatus.CREATED, items.get(2).status());
+        assertEquals(ItemStatus.DUPLICATE, items.get(3).status());
+        assertEquals(ItemStatus.REJECTED, items.get(4).status());
+
+        // Repeated reference inside the batch points to the same operation
+        assertEquals(items.get(0).operation().getId(), items.get(3).operation().getId());
+        assertNotNull(items.get(4).error());
+
+        // Existing + 2 created, rejected item wrote nothing
+        assertEquals(3, operationRepository.count());
+        assertEquals(1, entryRepository.findByOperationId(items.get(0).operation().getId()).size());
+        assertEquals(2, entryRepository.findByOperationId(items.get(2).operation().getId()).size());
+    }
+
+    @Test
+    void shouldBeIdempotentAcrossBatches() {
+        var commands = List.of(
+                deposit("BATCH-IDEM-001", targetAccountId),
+                deposit("BATCH-IDEM-002", targetAccountId));
+
+        var first = processOperationBatchUseCase.execute(commands);
+        var second = processOperationBatchUseCase.execute(commands);
+
+        assertEquals(2, first.count(ItemStatus.CREATED));
+        assertEquals(2, second.count(ItemStatus.DUPLICATE));
+        assertEquals(first.items().get(0).operation().getId(), second.items().get(0).operation().getId());
+        assertEquals(2, operationRepository.count());
+    }
+
+    private ProcessOperationUseCase.ProcessOperationCommand deposit(String reference, UUID accountId) {
+        return new ProcessOperationUseCase.ProcessOperationCommand(
+                ExternalReference.of(reference),
+                OperationType.DEPOSIT,
+                null,
+                accountId,
+                Money.of("100.00"),
+                "test");
+    }
+
+    private ProcessOperationUseCase.ProcessOperationCommand transfer(String reference, UUID sourceId, UUID targetId) {
+        return new ProcessOperationUseCase.ProcessOperationCommand(
+                ExternalReference.of(reference),
+                OperationType.TRANSFER,
+                sourceId,
+                targetId,
+                Money.of("25.00"),
+                "test");
+    }
+}
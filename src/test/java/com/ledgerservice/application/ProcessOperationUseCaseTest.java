@@ -4,20 +4,25 @@ import com.ledgerservice.application.usecases.ProcessOperationUseCase;
 import com.ledgerservice.domain.entities.Account;
 import com.ledgerservice.domain.entities.Operation;
 import com.ledgerservice.domain.enums.AccountType;
+import com.ledgerservice.domain.enums.OperationStatus;
 import com.ledgerservice.domain.enums.OperationType;
 import com.ledgerservice.domain.valueobjects.ExternalReference;
 import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.infrastructure.idempotency.IdempotencyCache;
 import com.ledgerservice.infrastructure.persistence.entities.AccountJpaEntity;
 import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
 import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
 import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaRepository;
 import com.ledgerservice.infrastructure.persistence.repositories.OperationJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.math.BigDecimal;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -42,6 +47,15 @@ class ProcessOperationUseCaseTest {
     @Autowired
     private EntryJpaRepository entryRepository;
 
+    @Autowired
+    private IdempotencyCache idempotencyCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private UUID sourceAccountId;
     private UUID targetAccountId;
 
@@ -51,6 +65,7 @@ class ProcessOperationUseCaseTest {
         entryRepository.deleteAll();
         operationRepository.deleteAll();
         accountRepository.deleteAll();
+        idempotencyCache.clear();
 
         // Create test accounts
         Account sourceAccount = Account.create(AccountType.USER);
@@ -136,4 +151,63 @@ class ProcessOperationUseCaseTest {
         long count = operationRepository.count();
         assertEquals(1, count);
     }
+
+    @Test
+    void shouldWriteProcessedOperationOnce() {
+        var command = new ProcessOperationUseCase.ProcessOperationCommand(
+                ExternalReference.of("WRITE-001"),
+                OperationType.TRANSFER,
+                sourceAccountId,
+                targetAccountId,
+                Money.of("10.00"),
+                "test");
+
+        double statementsBefore = statements();
+
+        Operation result = processOperationUseCase.execute(command);
+
+        // Persisted directly in its final state
+        var persisted = operationRepository.findById(result.getId()).orElseThrow();
+        assertEquals(OperationStatus.PROCESSED, persisted.getStatus());
+        assertNotNull(persisted.getProcessedAt());
+
+        // At most: idempotency lookup + 2 account lookups + operation INSERT +
+        // one batched entries INSERT + one batched account_balances upsert +
+        // outbox INSERT (no merge SELECTs, no UPDATE, no balance lock for an
+        // unprotected USER source)
+        double statements = statements() - statementsBefore;
+        assertTrue(statements > 0 && statements <= 7, "statements: " + statements);
+    }
+
+    @Test
+    void shouldSpreadHotAccountBalanceOverShards() {
+        Account systemAccount = Account.create(AccountType.SYSTEM);
+        accountRepository.save(EntityMapper.toJpa(systemAccount));
+
+        for (int i = 0; i < 20; i++) {
+            processOperationUseCase.execute(new ProcessOperationUseCase.ProcessOperationCommand(
+                    ExternalReference.of("HOT-" + i),
+                    OperationType.TRANSFER,
+                    sourceAccountId,
+                    systemAccount.getId(),
+                    Money.of("1.00"),
+                    "test"));
+        }
+
+        // Written to shard rows only, which add up to the full balance
+        var shards = jdbcTemplate.queryForList(
+                "SELECT shard, balance FROM account_balances WHERE account_id = ?",
+                systemAccount.getId());
+        assertTrue(shards.size() > 1, "shards: " + shards);
+        assertTrue(shards.stream().allMatch(row -> ((Number) row.get("shard")).intValue() > 0));
+        BigDecimal total = shards.stream()
+                .map(row -> (BigDecimal) row.get("balance"))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(0, new BigDecimal("20.00").compareTo(total));
+    }
+
+    private double statements() {
+        var counter = meterRegistry.find("ledger.operation.statements").counter();
+        return counter != null ? counter.count() : 0;
+    }
 }
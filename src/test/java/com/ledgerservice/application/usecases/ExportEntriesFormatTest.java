@@ -0,0 +1,100 @@
+package com.ledgerservice.application.usecases;
+
+import com.ledgerservice.domain.enums.Direction;
+import com.ledgerservice.infrastructure.persistence.entities.EntryJpaEntity;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportEntriesFormatTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    void shouldWritePlainCsvFieldsAsIs() {
+        EntryJpaEntity entry = entry("deposit", "api");
+
+        String csv = ExportEntriesUseCase.toCsv(entry);
+
+        assertEquals(entry.getId() + "," + entry.getOperationId() + "," + entry.getAccountId()
+                + ",-12.3400,DEBIT,deposit,api," + entry.getCreatedAt() + "\n", csv);
+    }
+
+    @Test
+    void shouldQuoteCsvFieldsWithSeparatorsQuotesAndNewlines() {
+        assertTrue(ExportEntriesUseCase.toCsv(entry("a,b", "api")).contains(",\"a,b\",api,"));
+        assertTrue(ExportEntriesUseCase.toCsv(entry("say \"hi\"", "api")).contains(",\"say \"\"hi\"\"\",api,"));
+        assertTrue(ExportEntriesUseCase.toCsv(entry("line\nbreak", "api")).contains(",\"line\nbreak\",api,"));
+        assertTrue(ExportEntriesUseCase.toCsv(entry("api", "carriage\rreturn")).contains(",api,\"carriage\rreturn\","));
+    }
+
+    @Test
+    void shouldWriteOneValidJsonObjectPerLine() {
+        EntryJpaEntity entry = entry("deposit", "api");
+
+        String json = toJson(entry);
+
+        assertTrue(json.endsWith("}\n"));
+        assertEquals(1, json.lines().count());
+        assertTrue(json.contains("\"amount\":-12.3400"));
+        JsonNode node = jsonMapper.readTree(json);
+        assertEquals(entry.getId().toString(), node.get("id").asString());
+        assertEquals(0, new BigDecimal("-12.34").compareTo(node.get("amount").decimalValue()));
+        assertEquals("DEBIT", node.get("direction").asString());
+        assertEquals(entry.getCreatedAt().toString(), node.get("createdAt").asString());
+    }
+
+    @Test
+    void shouldEscapeJsonQuotesBackslashesAndControlCharacters() {
+        String entryType = "say \"hi\" \\ path";
+        String source = "tab\tline\nreturn\rbell\u0007";
+
+        String json = toJson(entry(entryType, source));
+
+        assertEquals(1, json.lines().count());
+        assertTrue(json.contains("\\u0007"));
+        JsonNode node = jsonMapper.readTree(json);
+        assertEquals(entryType, node.get("entryType").asString());
+        assertEquals(source, node.get("source").asString());
+    }
+
+    @Test
+    void shouldStartEveryRowOnItsOwnLine() {
+        String json = toJson(entry("deposit", "api"), entry("withdrawal", "api"));
+
+        var lines = json.lines().toList();
+        assertEquals(2, lines.size());
+        assertEquals("deposit", jsonMapper.readTree(lines.get(0)).get("entryType").asString());
+        assertEquals("withdrawal", jsonMapper.readTree(lines.get(1)).get("entryType").asString());
+        assertTrue(lines.get(1).startsWith("{"));
+    }
+
+    private static String toJson(EntryJpaEntity... entries) {
+        StringWriter output = new StringWriter();
+        try (JsonGenerator json = ExportEntriesUseCase.ndjsonGenerator(output)) {
+            for (EntryJpaEntity entry : entries)
+                ExportEntriesUseCase.writeJson(json, entry);
+        }
+        return output.toString();
+    }
+
+    private static EntryJpaEntity entry(String entryType, String source) {
+        return new EntryJpaEntity(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                new BigDecimal("-12.3400"),
+                Direction.DEBIT,
+                entryType,
+                source,
+                LocalDateTime.of(2025, 3, 1, 10, 15, 30, 123456000));
+    }
+}
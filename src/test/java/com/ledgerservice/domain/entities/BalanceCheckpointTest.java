@@ -0,0 +1,67 @@
+package com.ledgerservice.domain.entities;
+
+import com.ledgerservice.domain.valueobjects.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BalanceCheckpointTest {
+
+    private final UUID accountId = UUID.randomUUID();
+
+    @Test
+    void shouldCreateCheckpointFromAggregate() {
+        UUID lastEntryId = UUID.randomUUID();
+        LocalDateTime lastCreatedAt = LocalDateTime.of(2025, 1, 1, 11, 0);
+
+        BalanceCheckpoint checkpoint = BalanceCheckpoint.create(accountId, Money.of("70.00"), 2, lastCreatedAt,
+                lastEntryId);
+
+        assertNotNull(checkpoint.getId());
+        assertEquals(accountId, checkpoint.getAccountId());
+        assertEquals(Money.of("70.00"), checkpoint.getRunningSum());
+        assertEquals(2, checkpoint.getEntryCount());
+        assertEquals(lastEntryId, checkpoint.getLastEntryId());
+        assertEquals(lastCreatedAt, checkpoint.getLastEntryCreatedAt());
+    }
+
+    @Test
+    void shouldAdvanceWithoutModifyingPreviousCheckpoint() {
+        BalanceCheckpoint first = BalanceCheckpoint.create(accountId, Money.of("100.00"), 1,
+                LocalDateTime.of(2025, 1, 1, 10, 0), UUID.randomUUID());
+        UUID tailEntryId = UUID.randomUUID();
+
+        BalanceCheckpoint next = first.advance(Money.of("25.50"), 1, LocalDateTime.of(2025, 1, 2, 10, 0),
+                tailEntryId);
+
+        assertNotEquals(first.getId(), next.getId());
+        assertEquals(Money.of("125.50"), next.getRunningSum());
+        assertEquals(2, next.getEntryCount());
+        assertEquals(tailEntryId, next.getLastEntryId());
+
+        assertEquals(Money.of("100.00"), first.getRunningSum());
+        assertEquals(1, first.getEntryCount());
+    }
+
+    @Test
+    void shouldRejectEmptyRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BalanceCheckpoint.create(accountId, Money.zero(), 0, LocalDateTime.now(), UUID.randomUUID()));
+    }
+
+    @Test
+    void shouldRejectTailEndingAtOrBeforeCursor() {
+        LocalDateTime cursor = LocalDateTime.of(2025, 1, 2, 10, 0);
+        UUID cursorEntryId = UUID.randomUUID();
+        BalanceCheckpoint checkpoint = BalanceCheckpoint.create(accountId, Money.of("10.00"), 1, cursor,
+                cursorEntryId);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> checkpoint.advance(Money.of("5.00"), 1, cursor, cursorEntryId));
+        assertThrows(IllegalArgumentException.class,
+                () -> checkpoint.advance(Money.of("5.00"), 1, cursor.minusSeconds(1), UUID.randomUUID()));
+    }
+}
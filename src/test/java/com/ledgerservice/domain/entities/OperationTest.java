@@ -23,6 +23,20 @@ class OperationTest {
         assertFalse(operation.isProcessed());
     }
 
+    @Test
+    void shouldCreateOperationInProcessedStatus() {
+        ExternalReference ref = ExternalReference.of("PSP-123");
+        Operation operation = Operation.createProcessed(ref, OperationType.TRANSFER);
+
+        assertNotNull(operation.getId());
+        assertEquals(ref, operation.getExternalReference());
+        assertEquals(OperationStatus.PROCESSED, operation.getStatus());
+        assertEquals(operation.getCreatedAt(), operation.getProcessedAt());
+        assertTrue(operation.isProcessed());
+        assertNull(operation.getFailureReason());
+        assertThrows(IllegalStateException.class, operation::markAsProcessed);
+    }
+
     @Test
     void shouldMarkAsProcessed() {
         Operation operation = Operation.create(ExternalReference.of("PSP-123"), OperationType.DEPOSIT);
@@ -0,0 +1,54 @@
+package com.ledgerservice.domain.services;
+
+import com.ledgerservice.domain.enums.AccountType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotAccountPolicyTest {
+
+    private final HotAccountPolicy policy = new HotAccountPolicy(Set.of(AccountType.SYSTEM, AccountType.TRANSIT), 4);
+
+    @Test
+    void shouldShardOnlyConfiguredTypes() {
+        assertTrue(policy.isSharded(AccountType.SYSTEM));
+        assertTrue(policy.isSharded(AccountType.TRANSIT));
+        assertFalse(policy.isSharded(AccountType.USER));
+        assertFalse(policy.isSharded(null));
+    }
+
+    @Test
+    void shouldSelectShardedAccounts() {
+        UUID user = UUID.randomUUID();
+        UUID system = UUID.randomUUID();
+
+        Set<UUID> sharded = policy.shardedAccounts(Map.of(user, AccountType.USER, system, AccountType.SYSTEM));
+
+        assertEquals(Set.of(system), sharded);
+    }
+
+    @Test
+    void shouldPickShardsOutsideTheMainShard() {
+        for (int i = 0; i < 1_000; i++) {
+            int shard = policy.pickShard();
+            assertTrue(shard > HotAccountPolicy.MAIN_SHARD && shard <= policy.shards(), "shard: " + shard);
+        }
+    }
+
+    @Test
+    void shouldNotShardAnythingWhenDisabled() {
+        HotAccountPolicy disabled = HotAccountPolicy.disabled();
+
+        assertFalse(disabled.isSharded(AccountType.SYSTEM));
+        assertTrue(disabled.shardedAccounts(Map.of(UUID.randomUUID(), AccountType.SYSTEM)).isEmpty());
+    }
+
+    @Test
+    void shouldRejectNonPositiveShardCount() {
+        assertThrows(IllegalArgumentException.class, () -> new HotAccountPolicy(Set.of(AccountType.SYSTEM), 0));
+    }
+}
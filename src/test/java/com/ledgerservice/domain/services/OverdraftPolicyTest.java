@@ -0,0 +1,48 @@
+package com.ledgerservice.domain.services;
+
+import com.ledgerservice.domain.enums.AccountType;
+import com.ledgerservice.domain.exceptions.InsufficientFundsException;
+import com.ledgerservice.domain.valueobjects.Money;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OverdraftPolicyTest {
+
+    private final OverdraftPolicy policy = new OverdraftPolicy(Set.of(AccountType.USER));
+
+    @Test
+    void shouldAllowDebitCoveredByBalance() {
+        assertDoesNotThrow(() -> policy.checkDebit(
+                UUID.randomUUID(), AccountType.USER, Money.of("100.00"), Money.of("100.00")));
+    }
+
+    @Test
+    void shouldRejectDebitAboveBalanceOnProtectedType() {
+        UUID accountId = UUID.randomUUID();
+
+        var ex = assertThrows(InsufficientFundsException.class, () -> policy.checkDebit(
+                accountId, AccountType.USER, Money.of("50.00"), Money.of("50.01")));
+
+        assertEquals(accountId, ex.getAccountId());
+    }
+
+    @Test
+    void shouldAllowOverdraftOnUnprotectedType() {
+        assertDoesNotThrow(() -> policy.checkDebit(
+                UUID.randomUUID(), AccountType.SYSTEM, Money.zero(), Money.of("1000.00")));
+    }
+
+    @Test
+    void shouldNotProtectAnythingWhenDisabled() {
+        OverdraftPolicy disabled = OverdraftPolicy.disabled();
+
+        assertFalse(disabled.isEnabled());
+        assertFalse(disabled.isProtected(AccountType.USER));
+        assertDoesNotThrow(() -> disabled.checkDebit(
+                UUID.randomUUID(), AccountType.USER, Money.zero(), Money.of("1.00")));
+    }
+}
@@ -0,0 +1,62 @@
+package com.ledgerservice.domain.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyAccumulatorTest {
+
+    @Test
+    void shouldSumLikeMoneyAdd() {
+        Money a = Money.of("100.50");
+        Money b = Money.of("-50.2525");
+        Money c = Money.of("0.0001");
+
+        Money result = MoneyAccumulator.zero().add(a).add(b).add(c).toMoney();
+
+        assertEquals(a.add(b).add(c), result);
+        assertEquals(new BigDecimal("50.2476"), result.getValue());
+    }
+
+    @Test
+    void shouldStartFromOpeningBalance() {
+        Money result = MoneyAccumulator.startingAt(Money.of("10")).add(Money.of("5")).toMoney();
+
+        assertEquals(Money.of("15"), result);
+    }
+
+    @Test
+    void shouldReturnZeroWhenNothingAdded() {
+        MoneyAccumulator accumulator = MoneyAccumulator.zero();
+
+        assertTrue(accumulator.isZero());
+        assertEquals(Money.zero(), accumulator.toMoney());
+    }
+
+    @Test
+    void shouldDetectZeroSum() {
+        MoneyAccumulator accumulator = MoneyAccumulator.zero()
+                .add(Money.of("100"))
+                .add(Money.of("-100"));
+
+        assertTrue(accumulator.isZero());
+    }
+
+    @Test
+    void shouldThrowOnOverflow() {
+        MoneyAccumulator accumulator = MoneyAccumulator.zero().add(Money.ofUnits(Long.MAX_VALUE));
+
+        assertThrows(ArithmeticException.class, () -> accumulator.add(Money.ofUnits(1)));
+    }
+
+    @Test
+    void shouldNotAddDifferentCurrencies() {
+        MoneyAccumulator accumulator = MoneyAccumulator.zero();
+        Money usd = Money.of(BigDecimal.TEN, Currency.getInstance("USD"));
+
+        assertThrows(IllegalArgumentException.class, () -> accumulator.add(usd));
+    }
+}
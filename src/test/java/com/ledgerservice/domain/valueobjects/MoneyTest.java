@@ -136,4 +136,38 @@ class MoneyTest {
         assertTrue(string.contains("100.5"));
         assertTrue(string.contains("BRL"));
     }
+
+    @Test
+    void shouldRoundToFourDecimalPlaces() {
+        Money money = Money.of("0.00005");
+
+        assertEquals(1, money.getUnits());
+        assertEquals(new BigDecimal("0.0001"), money.getValue());
+    }
+
+    @Test
+    void shouldRoundTripUnits() {
+        Money money = Money.ofUnits(-1234567);
+
+        assertEquals(new BigDecimal("-123.4567"), money.getValue());
+        assertEquals(money, Money.of(money.getValue()));
+    }
+
+    @Test
+    void shouldThrowOnOverflow() {
+        Money max = Money.ofUnits(Long.MAX_VALUE);
+        Money min = Money.ofUnits(Long.MIN_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> max.add(Money.ofUnits(1)));
+        assertThrows(ArithmeticException.class, () -> min.subtract(Money.ofUnits(1)));
+        assertThrows(ArithmeticException.class, min::negate);
+    }
+
+    @Test
+    void shouldRejectValueBeyondUnitRange() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> Money.of("1000000000000000.0000"));
+        assertTrue(ex.getMessage().contains("out of the supported range"));
+        assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("-1e30")));
+    }
 }
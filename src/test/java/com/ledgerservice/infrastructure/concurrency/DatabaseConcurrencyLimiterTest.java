@@ -0,0 +1,91 @@
+package com.ledgerservice.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatabaseConcurrencyLimiterTest {
+
+    @Test
+    void shouldBlockUntilAPermitIsReleased() throws Exception {
+        DatabaseConcurrencyLimiter limiter = new DatabaseConcurrencyLimiter(1, Duration.ofSeconds(5));
+        CountDownLatch acquired = new CountDownLatch(1);
+
+        limiter.acquire();
+        CompletableFuture<Void> other = CompletableFuture.runAsync(() -> {
+            try {
+                limiter.acquire();
+                acquired.countDown();
+                limiter.release();
+            } catch (SQLTransientConnectionException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+        limiter.release();
+        assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        other.get(5, TimeUnit.SECONDS);
+        assertEquals(1, limiter.availablePermits());
+    }
+
+    @Test
+    void shouldTimeOutWhenEveryPermitIsHeld() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DatabaseConcurrencyLimiter limiter = new DatabaseConcurrencyLimiter(1, Duration.ofMillis(50));
+        limiter.bindTo(meterRegistry);
+
+        limiter.acquire();
+
+        assertThrows(SQLTransientConnectionException.class, limiter::acquire);
+        assertEquals(1.0, meterRegistry.get("ledger.db_limiter.timeouts").functionCounter().count());
+    }
+
+    @Test
+    void shouldReleasePermitOnceWhenConnectionIsClosed() throws Exception {
+        DatabaseConcurrencyLimiter limiter = new DatabaseConcurrencyLimiter(2, Duration.ofSeconds(1));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(new StubDataSource(), limiter);
+
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        assertEquals(0, limiter.availablePermits());
+
+        first.close();
+        first.close();
+        assertEquals(1, limiter.availablePermits());
+
+        second.close();
+        assertEquals(2, limiter.availablePermits());
+    }
+
+    // Connections that accept close() and nothing else
+    private static final class StubDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class },
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("close"))
+                            return null;
+                        throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return getConnection();
+        }
+    }
+}
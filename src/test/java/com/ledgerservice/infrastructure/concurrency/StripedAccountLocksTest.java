@@ -0,0 +1,60 @@
+package com.ledgerservice.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedAccountLocksTest {
+
+    @Test
+    void shouldAcquireStripesInAscendingOrderWithoutDuplicates() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        int[] stripes = AccountLockSupport.sortedStripes(List.of(second, first, second), 1);
+
+        assertArrayEquals(new int[] { 0 }, stripes);
+    }
+
+    @Test
+    void shouldBlockOtherThreadsUntilLeaseIsClosed() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StripedAccountLocks locks = new StripedAccountLocks(16, meterRegistry);
+        UUID accountId = UUID.randomUUID();
+        CountDownLatch acquired = new CountDownLatch(1);
+
+        var lease = locks.acquire(List.of(accountId));
+        CompletableFuture<Void> other = CompletableFuture.runAsync(() -> {
+            try (var ignored = locks.acquire(List.of(accountId))) {
+                acquired.countDown();
+            }
+        });
+
+        assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+
+        lease.close();
+        other.get(5, TimeUnit.SECONDS);
+
+        assertEquals(0, acquired.getCount());
+        assertEquals(2, meterRegistry.get("ledger.account_lock.acquisitions").counter().count());
+        assertEquals(1, meterRegistry.get("ledger.account_lock.wait").timer().count());
+    }
+
+    @Test
+    void shouldReleaseEveryStripeOfATransfer() {
+        StripedAccountLocks locks = new StripedAccountLocks(1024, new SimpleMeterRegistry());
+        List<UUID> accounts = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+        locks.acquire(accounts).close();
+
+        // Another thread can take both stripes once released
+        CompletableFuture.runAsync(() -> locks.acquire(accounts).close()).join();
+    }
+}
@@ -0,0 +1,53 @@
+package com.ledgerservice.infrastructure.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void shouldNeverReturnFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("PSP-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("PSP-" + i));
+        }
+    }
+
+    @Test
+    void shouldStayCloseToConfiguredFalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("PSP-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("NEW-" + i))
+                falsePositives++;
+        }
+
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void shouldReportFillRatio() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        assertEquals(0.0, filter.fillRatio());
+
+        filter.put("PSP-123");
+
+        assertEquals((double) filter.hashFunctions() / filter.bitSize(), filter.fillRatio(), 1e-9);
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(1_000, 1.0));
+    }
+}
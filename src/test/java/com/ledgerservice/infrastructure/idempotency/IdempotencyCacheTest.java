@@ -0,0 +1,59 @@
+package com.ledgerservice.infrastructure.idempotency;
+
+import com.ledgerservice.domain.entities.Operation;
+import com.ledgerservice.domain.enums.OperationType;
+import com.ledgerservice.domain.valueobjects.ExternalReference;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IdempotencyCache cache = new IdempotencyCache(meterRegistry, true, 100, Duration.ofMinutes(10));
+
+    @Test
+    void shouldReturnCachedProcessedOperation() {
+        Operation operation = Operation.createProcessed(ExternalReference.of("PSP-123"), OperationType.DEPOSIT);
+
+        cache.put(operation);
+        var cached = cache.find(ExternalReference.of("PSP-123"));
+
+        assertTrue(cached.isPresent());
+        assertEquals(operation.getId(), cached.get().getId());
+        assertEquals(operation.getStatus(), cached.get().getStatus());
+        assertEquals(operation.getProcessedAt(), cached.get().getProcessedAt());
+    }
+
+    @Test
+    void shouldNotCacheNonTerminalOperations() {
+        Operation operation = Operation.create(ExternalReference.of("PSP-123"), OperationType.DEPOSIT);
+
+        cache.put(operation);
+
+        assertTrue(cache.find(ExternalReference.of("PSP-123")).isEmpty());
+    }
+
+    @Test
+    void shouldRecordHitsAndMisses() {
+        cache.put(Operation.createProcessed(ExternalReference.of("PSP-123"), OperationType.DEPOSIT));
+
+        cache.find(ExternalReference.of("PSP-123"));
+        cache.find(ExternalReference.of("PSP-456"));
+
+        assertEquals(1, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void shouldBypassCacheWhenDisabled() {
+        var disabled = new IdempotencyCache(new SimpleMeterRegistry(), false, 100, Duration.ofMinutes(10));
+
+        disabled.put(Operation.createProcessed(ExternalReference.of("PSP-123"), OperationType.DEPOSIT));
+
+        assertTrue(disabled.find(ExternalReference.of("PSP-123")).isEmpty());
+    }
+}
@@ -0,0 +1,100 @@
+package com.ledgerservice.infrastructure.observability;
+
+import com.ledgerservice.infrastructure.observability.StructuredEvent.DuplicateDetected;
+import com.ledgerservice.infrastructure.observability.StructuredEvent.OperationReceived;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventRingBufferTest {
+
+    @Test
+    void shouldRoundCapacityUpToPowerOfTwo() {
+        assertEquals(8, new EventRingBuffer(5).capacity());
+        assertEquals(8, new EventRingBuffer(8).capacity());
+        assertEquals(1, new EventRingBuffer(1).capacity());
+    }
+
+    @Test
+    void shouldRejectPublishWhenFullAndAcceptAgainAfterDrain() {
+        EventRingBuffer buffer = new EventRingBuffer(2);
+
+        assertTrue(buffer.tryPublish(received("REF-1"), "corr-1", 1L));
+        assertTrue(buffer.tryPublish(received("REF-2"), "corr-2", 2L));
+        assertFalse(buffer.tryPublish(received("REF-3"), "corr-3", 3L));
+        assertEquals(2, buffer.size());
+
+        List<String> consumed = new ArrayList<>();
+        buffer.drain((event, correlationId, timestamp) -> consumed.add(correlationId), 1);
+
+        assertEquals(List.of("corr-1"), consumed);
+        assertTrue(buffer.tryPublish(received("REF-3"), "corr-3", 3L));
+    }
+
+    @Test
+    void shouldDeliverEventsInPublishOrder() {
+        EventRingBuffer buffer = new EventRingBuffer(4);
+        List<StructuredEvent> consumed = new ArrayList<>();
+
+        // Several laps around the ring
+        for (int i = 0; i < 10; i++) {
+            buffer.tryPublish(received("REF-" + i), null, i);
+            buffer.drain((event, correlationId, timestamp) -> consumed.add(event), 10);
+        }
+
+        assertEquals(10, consumed.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("REF-" + i, ((OperationReceived) consumed.get(i)).externalReference());
+        }
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void shouldNotLoseEventsPublishedConcurrently() {
+        EventRingBuffer buffer = new EventRingBuffer(1024);
+        int producers = 8;
+        int perProducer = 10_000;
+        long[] consumed = new long[1];
+
+        List<CompletableFuture<Void>> running = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            running.add(CompletableFuture.runAsync(() -> {
+                DuplicateDetected event = new DuplicateDetected("REF", UUID.randomUUID());
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.tryPublish(event, null, i))
+                        Thread.onSpinWait();
+                }
+            }));
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(running.toArray(CompletableFuture[]::new));
+        while (!all.isDone() || buffer.size() > 0) {
+            buffer.drain((event, correlationId, timestamp) -> consumed[0]++, 256);
+        }
+        all.join();
+
+        assertEquals((long) producers * perProducer, consumed[0]);
+    }
+
+    @Test
+    void shouldWriteEscapedJson() {
+        EventJsonWriter json = new EventJsonWriter();
+        OperationReceived event = new OperationReceived("REF \"1\"\n", "DEPOSIT", new BigDecimal("10.50"));
+
+        event.writeFields(json.begin(event, "corr-1", 0L));
+
+        assertEquals("{\"timestamp\":\"1970-01-01T00:00:00Z\",\"event\":\"operation.received\","
+                + "\"correlationId\":\"corr-1\",\"externalReference\":\"REF \\\"1\\\"\\n\","
+                + "\"operationType\":\"DEPOSIT\",\"amount\":10.50}", json.end());
+    }
+
+    private static OperationReceived received(String externalReference) {
+        return new OperationReceived(externalReference, "DEPOSIT", BigDecimal.TEN);
+    }
+}
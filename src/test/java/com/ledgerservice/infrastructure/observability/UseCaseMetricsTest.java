@@ -0,0 +1,95 @@
+package com.ledgerservice.infrastructure.observability;
+
+import com.ledgerservice.domain.enums.OperationType;
+import com.ledgerservice.domain.enums.ReconciliationStatus;
+import com.ledgerservice.infrastructure.observability.UseCaseMetrics.DuplicatePath;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UseCaseMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UseCaseMetrics metrics = new UseCaseMetrics(meterRegistry);
+
+    @Test
+    void shouldTagTimerWithUseCaseOperationTypeAndOutcome() {
+        metrics.stop(metrics.start(), "process_operation", OperationType.TRANSFER, "created");
+        metrics.stop(metrics.start(), "process_operation", OperationType.TRANSFER, "duplicate");
+        metrics.stop(metrics.start(), "process_operation", OperationType.TRANSFER, "created");
+
+        Timer created = meterRegistry.get("ledger.usecase.duration")
+                .tags("use_case", "process_operation", "operation_type", "transfer", "outcome", "created")
+                .timer();
+        Timer duplicate = meterRegistry.get("ledger.usecase.duration")
+                .tags("use_case", "process_operation", "operation_type", "transfer", "outcome", "duplicate")
+                .timer();
+        assertEquals(2, created.count());
+        assertEquals(1, duplicate.count());
+    }
+
+    @Test
+    void shouldTimeWorkWithSuccessOrErrorOutcome() {
+        assertEquals("done", metrics.time("calculate_balance", () -> "done"));
+        assertThrows(IllegalStateException.class, () -> metrics.time("calculate_balance", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(1, meterRegistry.get("ledger.usecase.duration")
+                .tags("use_case", "calculate_balance", "operation_type", "none", "outcome", "success")
+                .timer()
+                .count());
+        assertEquals(1, meterRegistry.get("ledger.usecase.duration")
+                .tags("use_case", "calculate_balance", "operation_type", "none", "outcome", "error")
+                .timer()
+                .count());
+    }
+
+    @Test
+    void shouldCountDuplicatesByDetectionPath() {
+        metrics.duplicateDetected(DuplicatePath.CACHE);
+        metrics.duplicateDetected(DuplicatePath.CACHE);
+        metrics.duplicateDetected(DuplicatePath.RACE);
+
+        assertEquals(2.0, duplicates("cache"));
+        assertEquals(1.0, duplicates("race"));
+        // Every path is registered up front, so dashboards see zeros
+        assertEquals(0.0, duplicates("precheck"));
+        assertEquals(0.0, duplicates("batch"));
+    }
+
+    @Test
+    void shouldRecordRowsScannedByLowercaseMode() {
+        metrics.rowsScanned("AGGREGATE", 10);
+        metrics.rowsScanned("AGGREGATE", 30);
+        metrics.rowsScanned("FULL_SCAN", 5);
+
+        DistributionSummary aggregate = meterRegistry.get("ledger.balance.rows_scanned")
+                .tag("mode", "aggregate")
+                .summary();
+        assertEquals(2, aggregate.count());
+        assertEquals(40.0, aggregate.totalAmount());
+        assertEquals(30.0, aggregate.max());
+        assertEquals(5.0, meterRegistry.get("ledger.balance.rows_scanned")
+                .tag("mode", "full_scan")
+                .summary()
+                .totalAmount());
+    }
+
+    @Test
+    void shouldCountReconciliationsByStatus() {
+        metrics.reconciliationRecorded(ReconciliationStatus.MATCH);
+        metrics.reconciliationRecorded(ReconciliationStatus.MISMATCH);
+        metrics.reconciliationRecorded(ReconciliationStatus.MISMATCH);
+
+        assertEquals(1.0, meterRegistry.get("ledger.reconciliation.results").tag("status", "match").counter().count());
+        assertEquals(2.0, meterRegistry.get("ledger.reconciliation.results").tag("status", "mismatch").counter().count());
+    }
+
+    private double duplicates(String path) {
+        return meterRegistry.get("ledger.operation.duplicates").tag("path", path).counter().count();
+    }
+}
@@ -0,0 +1,141 @@
+package com.ledgerservice.infrastructure.outbox;
+
+import com.ledgerservice.application.services.LedgerPostingService;
+import com.ledgerservice.application.usecases.ProcessOperationBatchUseCase;
+import com.ledgerservice.application.usecases.ProcessOperationUseCase;
+import com.ledgerservice.application.usecases.ProcessOperationUseCase.ProcessOperationCommand;
+import com.ledgerservice.domain.entities.Account;
+import com.ledgerservice.domain.entities.Operation;
+import com.ledgerservice.domain.enums.AccountType;
+import com.ledgerservice.domain.enums.OperationType;
+import com.ledgerservice.domain.valueobjects.ExternalReference;
+import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.infrastructure.idempotency.IdempotencyCache;
+import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
+import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.OperationJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for the transactional outbox and OutboxRelay
+ * Uses Testcontainers for PostgreSQL; the scheduled relay is disabled so the
+ * test drains the outbox itself
+ */
+@SpringBootTest(properties = {
+        "ledger.outbox.relay.enabled=false",
+        "ledger.outbox.relay.batch-size=2"
+})
+@ActiveProfiles("test")
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventSink outboxEventSink;
+
+    @Autowired
+    private ProcessOperationUseCase processOperationUseCase;
+
+    @Autowired
+    private ProcessOperationBatchUseCase processOperationBatchUseCase;
+
+    @Autowired
+    private AccountJpaRepository accountRepository;
+
+    @Autowired
+    private OperationJpaRepository operationRepository;
+
+    @Autowired
+    private EntryJpaRepository entryRepository;
+
+    @Autowired
+    private IdempotencyCache idempotencyCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        // Clean database
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        entryRepository.deleteAll();
+        operationRepository.deleteAll();
+        accountRepository.deleteAll();
+        idempotencyCache.clear();
+        ((InMemoryOutboxEventSink) outboxEventSink).clear();
+
+        Account account = Account.create(AccountType.USER);
+        accountRepository.save(EntityMapper.toJpa(account));
+        accountId = account.getId();
+    }
+
+    @Test
+    void shouldWriteOneEventPerProcessedOperationOnly() {
+        // Given
+        Operation operation = processOperationUseCase.execute(deposit("OUTBOX-001"));
+
+        // When - duplicate is answered from the existing operation
+        processOperationUseCase.execute(deposit("OUTBOX-001"));
+
+        // Then
+        assertEquals(1, outboxCount());
+
+        assertEquals(1, outboxRelay.drain());
+
+        List<OutboxMessage> published = ((InMemoryOutboxEventSink) outboxEventSink).published();
+        assertEquals(1, published.size());
+        assertEquals(operation.getId(), published.getFirst().aggregateId());
+        assertEquals(LedgerPostingService.OPERATION_PROCESSED, published.getFirst().eventType());
+        assertTrue(published.getFirst().payload().contains("OUTBOX-001"));
+        assertEquals(0, outboxCount());
+    }
+
+    @Test
+    void shouldRelayBatchInsertsInBatchesAndInOrder() {
+        // Given
+        processOperationBatchUseCase.execute(List.of(
+                deposit("OUTBOX-B1"),
+                deposit("OUTBOX-B2"),
+                deposit("OUTBOX-B3")));
+        assertEquals(3, outboxCount());
+
+        // When - batch size 2: one full batch, then one partial batch
+        int relayed = outboxRelay.drain();
+
+        // Then
+        assertEquals(3, relayed);
+        List<OutboxMessage> published = ((InMemoryOutboxEventSink) outboxEventSink).published();
+        assertEquals(3, published.size());
+        assertTrue(published.get(0).id() < published.get(1).id());
+        assertTrue(published.get(1).id() < published.get(2).id());
+        assertEquals(0, outboxCount());
+    }
+
+    private int outboxCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class);
+    }
+
+    private ProcessOperationCommand deposit(String reference) {
+        return new ProcessOperationCommand(
+                ExternalReference.of(reference),
+                OperationType.DEPOSIT,
+                null,
+                accountId,
+                Money.of("10.00"),
+                "test");
+    }
+}
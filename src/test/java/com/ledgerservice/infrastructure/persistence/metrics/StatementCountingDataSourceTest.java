@@ -0,0 +1,91 @@
+package com.ledgerservice.infrastructure.persistence.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementCountingDataSourceTest {
+
+    private final StatementCountingDataSource dataSource = new StatementCountingDataSource(new StubDataSource());
+
+    @Test
+    void shouldCountEveryExecutedStatement() throws Exception {
+        Connection connection = dataSource.getConnection();
+
+        StatementCounter.start();
+        Statement statement = connection.createStatement();
+        statement.execute("SELECT 1");
+        statement.executeQuery("SELECT 2");
+        PreparedStatement prepared = connection.prepareStatement("UPDATE accounts SET type = ?");
+        prepared.setString(1, "USER");
+        prepared.executeUpdate();
+
+        assertEquals(3, StatementCounter.stop());
+    }
+
+    @Test
+    void shouldCountABatchOnce() throws Exception {
+        PreparedStatement prepared = dataSource.getConnection().prepareStatement("INSERT INTO entries VALUES (?)");
+
+        StatementCounter.start();
+        for (int i = 0; i < 10; i++) {
+            prepared.setInt(1, i);
+            prepared.addBatch();
+        }
+        prepared.executeBatch();
+
+        assertEquals(1, StatementCounter.stop());
+    }
+
+    @Test
+    void shouldOnlyCountBetweenStartAndStop() throws Exception {
+        Statement statement = dataSource.getConnection().createStatement();
+
+        statement.execute("SELECT 1");
+        StatementCounter.start();
+        statement.execute("SELECT 2");
+        assertEquals(1, StatementCounter.stop());
+
+        statement.execute("SELECT 3");
+        assertEquals(0, StatementCounter.stop());
+    }
+
+    // Connections whose statements accept every call and return defaults
+    private static final class StubDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class },
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "createStatement" -> stub(Statement.class);
+                        case "prepareStatement" -> stub(PreparedStatement.class);
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return getConnection();
+        }
+
+        private static Object stub(Class<?> type) {
+            return Proxy.newProxyInstance(
+                    type.getClassLoader(),
+                    new Class<?>[] { type },
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "execute" -> false;
+                        case "executeUpdate" -> 1;
+                        case "executeBatch" -> new int[0];
+                        default -> null;
+                    });
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.ledgerservice.infrastructure.persistence.partitioning;
+
+import com.ledgerservice.application.usecases.ProcessOperationUseCase;
+import com.ledgerservice.domain.entities.Account;
+import com.ledgerservice.domain.enums.AccountType;
+import com.ledgerservice.domain.enums.OperationType;
+import com.ledgerservice.domain.valueobjects.ExternalReference;
+import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.infrastructure.idempotency.IdempotencyCache;
+import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
+import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.EntryPartitionRepository;
+import com.ledgerservice.infrastructure.persistence.repositories.OperationJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for the monthly partitioning of entries (V10) and
+ * EntryPartitionMaintenance
+ * Uses Testcontainers for PostgreSQL
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EntryPartitionMaintenanceTest {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    @Autowired
+    private EntryPartitionMaintenance entryPartitionMaintenance;
+
+    @Autowired
+    private EntryPartitionRepository entryPartitionRepository;
+
+    @Autowired
+    private ProcessOperationUseCase processOperationUseCase;
+
+    @Autowired
+    private AccountJpaRepository accountRepository;
+
+    @Autowired
+    private OperationJpaRepository operationRepository;
+
+    @Autowired
+    private EntryJpaRepository entryRepository;
+
+    @Autowired
+    private IdempotencyCache idempotencyCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Clean database
+        entryRepository.deleteAll();
+        operationRepository.deleteAll();
+        accountRepository.deleteAll();
+        idempotencyCache.clear();
+    }
+
+    @Test
+    void shouldPartitionEntriesByMonthWithoutDefaultPartition() {
+        String strategy = jdbcTemplate.queryForObject("""
+                SELECT partstrat FROM pg_partitioned_table
+                WHERE partrelid = 'entries'::regclass
+                """, String.class);
+        assertEquals("r", strategy);
+
+        List<String> primaryKey = jdbcTemplate.queryForList("""
+                SELECT attname FROM pg_index
+                JOIN pg_attribute ON attrelid = indrelid AND attnum = ANY (indkey)
+                WHERE indrelid = 'entries'::regclass AND indisprimary
+                ORDER BY attname
+                """, String.class);
+        assertEquals(List.of("created_at", "id"), primaryKey);
+
+        Long defaultPartitions = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM pg_partitioned_table
+                WHERE partrelid = 'entries'::regclass AND partdefid <> 0
+                """, Long.class);
+        assertEquals(0L, defaultPartitions);
+    }
+
+    @Test
+    void shouldCreateCurrentAndFutureMonthsAtStartup() {
+        List<String> partitions = entryPartitionRepository.listPartitions();
+
+        YearMonth current = YearMonth.now();
+        for (int month = 0; month <= 3; month++) {
+            assertTrue(partitions.contains(partitionName(current.plusMonths(month))),
+                    "missing partition for " + current.plusMonths(month));
+        }
+    }
+
+    @Test
+    void shouldCreateMissingPartitionsOnlyOnce() {
+        LocalDateTime from = LocalDateTime.of(2001, 1, 15, 0, 0);
+        List<String> before = entryPartitionRepository.listPartitions();
+
+        int created = entryPartitionRepository.createPartitions(from, 3);
+        List<String> after = entryPartitionRepository.listPartitions();
+
+        assertEquals(after.size() - before.size(), created);
+        assertTrue(after.contains("entries_2001_01"));
+        assertTrue(after.containsAll(before));
+
+        assertEquals(0, entryPartitionRepository.createPartitions(from, 3));
+        assertEquals(after, entryPartitionRepository.listPartitions());
+    }
+
+    @Test
+    void shouldRunMaintenanceRepeatedlyWithoutChanges() {
+        entryPartitionMaintenance.createFuturePartitions();
+        List<String> partitions = entryPartitionRepository.listPartitions();
+
+        entryPartitionMaintenance.createFuturePartitions();
+
+        assertEquals(partitions, entryPartitionRepository.listPartitions());
+    }
+
+    @Test
+    void shouldRouteEntriesToTheirMonthPartition() {
+        Account account = Account.create(AccountType.USER);
+        accountRepository.save(EntityMapper.toJpa(account));
+
+        processOperationUseCase.execute(new ProcessOperationUseCase.ProcessOperationCommand(
+                ExternalReference.of("PARTITION-DEP-001"),
+                OperationType.DEPOSIT,
+                null,
+                account.getId(),
+                Money.of("10.00"),
+                "test"));
+
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT tableoid::regclass::text FROM entries WHERE account_id = ?",
+                String.class, account.getId());
+        assertEquals(List.of(partitionName(YearMonth.now())), partitions);
+    }
+
+    @Test
+    void shouldRejectEntriesOfAMonthWithoutPartition() {
+        Account account = Account.create(AccountType.USER);
+        accountRepository.save(EntityMapper.toJpa(account));
+        UUID operationId = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO operations (id, external_reference, operation_type, status)
+                VALUES (?, 'PARTITION-FAR-001', 'deposit', 'processed')
+                """, operationId);
+
+        DataAccessException ex = assertThrows(DataAccessException.class, () -> jdbcTemplate.update("""
+                INSERT INTO entries (operation_id, account_id, amount, direction, entry_type, source, created_at)
+                VALUES (?, ?, 10, 'credit', 'deposit', 'test', ?)
+                """, operationId, account.getId(), LocalDateTime.of(2200, 1, 1, 0, 0)));
+        assertTrue(ex.getMostSpecificCause().getMessage().contains("no partition"));
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "entries_" + month.format(PARTITION_SUFFIX);
+    }
+}
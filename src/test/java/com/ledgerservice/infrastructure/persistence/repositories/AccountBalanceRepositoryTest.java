@@ -0,0 +1,62 @@
+package com.ledgerservice.infrastructure.persistence.repositories;
+
+import com.ledgerservice.infrastructure.persistence.repositories.AccountBalanceRepository.Delta;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountBalanceRepositoryTest {
+
+    // High bit set: negative for UUID.compareTo, last for Postgres
+    private static final UUID HIGH = UUID.fromString("ffffffff-0000-4000-8000-000000000000");
+    private static final UUID LOW = UUID.fromString("00000000-0000-4000-8000-000000000000");
+    private static final UUID MIDDLE = UUID.fromString("7fffffff-0000-4000-8000-000000000000");
+
+    @Test
+    void shouldOrderIdsLikePostgres() {
+        assertTrue(AccountBalanceRepository.UUID_ORDER.compare(LOW, MIDDLE) < 0);
+        assertTrue(AccountBalanceRepository.UUID_ORDER.compare(MIDDLE, HIGH) < 0);
+        assertTrue(AccountBalanceRepository.UUID_ORDER.compare(HIGH, HIGH) == 0);
+
+        // Same most significant half, high bit set in the least significant one
+        UUID lowTail = UUID.fromString("00000000-0000-4000-0000-000000000001");
+        UUID highTail = UUID.fromString("00000000-0000-4000-8000-000000000001");
+        assertTrue(AccountBalanceRepository.UUID_ORDER.compare(lowTail, highTail) < 0);
+    }
+
+    @Test
+    void shouldApplyDeltasInLockOrder() {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+        AccountBalanceRepository repository = new AccountBalanceRepository(jdbcTemplate);
+
+        Map<UUID, Delta> deltas = new LinkedHashMap<>();
+        deltas.put(HIGH, new Delta(0, BigDecimal.ONE, 1));
+        deltas.put(MIDDLE, new Delta(2, BigDecimal.ONE, 1));
+        deltas.put(LOW, new Delta(0, BigDecimal.ONE, 1));
+
+        repository.apply(deltas);
+
+        // Shard first, then the unsigned account id order of LOCK_SQL
+        assertEquals(List.of(LOW, HIGH, MIDDLE), jdbcTemplate.accountIds);
+    }
+
+    // Captures the rows of the batch instead of running it
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+
+        private final List<UUID> accountIds = new ArrayList<>();
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            batchArgs.forEach(row -> accountIds.add((UUID) row[0]));
+            return new int[batchArgs.size()];
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.ledgerservice.load;
+
+import com.ledgerservice.TestcontainersConfiguration;
+import com.ledgerservice.domain.entities.Account;
+import com.ledgerservice.domain.enums.AccountType;
+import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
+import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
+import com.ledgerservice.load.LoadProfile.Scenario;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load test: drives the HTTP API of a full application started against a
+ * Testcontainers PostgreSQL
+ *
+ * Every client is a closed loop (next request once the previous answered), so
+ * latencies do not include queueing delay beyond the configured concurrency.
+ * Results are printed and written to target/load-report.json; settings are
+ * described in LoadProfile.
+ *
+ * Excluded from the default build, run with: ./mvnw -Pload test
+ */
+@Tag("load")
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LedgerLoadTest {
+
+    // Recently sent external references, resent to exercise idempotency
+    private static final int RECENT_REFERENCES = 1024;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AccountJpaRepository accountRepository;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final AtomicReferenceArray<String> recentReferences = new AtomicReferenceArray<>(RECENT_REFERENCES);
+    private final AtomicLong referenceSequence = new AtomicLong();
+
+    @Test
+    void shouldSustainConfiguredLoad() throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        List<UUID> accounts = createAccounts(profile.accounts());
+
+        run(profile, accounts, profile.warmup(), new LoadReport());
+
+        LoadReport report = new LoadReport();
+        Duration elapsed = run(profile, accounts, profile.duration(), report);
+
+        System.out.printf("%nLoad test: %d clients, %d accounts, duplicate ratio %.2f, %ds%n%s%n",
+                profile.concurrency(), profile.accounts(), profile.duplicateRatio(),
+                elapsed.toSeconds(), report.toTable(elapsed));
+        report.writeJson(Path.of("target", "load-report.json"), profile, elapsed);
+
+        assertTrue(report.totalRequests() > 0, "No request completed");
+        assertEquals(0, report.totalErrors(), "Requests failed under load");
+    }
+
+    private Duration run(LoadProfile profile, List<UUID> accounts, Duration duration, LoadReport report)
+            throws Exception {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < profile.concurrency(); i++)
+                running.add(clients.submit(() -> {
+                    while (System.nanoTime() < deadline)
+                        send(profile, accounts, report);
+                    return null;
+                }));
+            for (Future<?> client : running)
+                client.get();
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private void send(LoadProfile profile, List<UUID> accounts, LoadReport report) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Scenario scenario = profile.pick(random.nextInt(profile.totalWeight()));
+        UUID accountId = accounts.get(random.nextInt(accounts.size()));
+
+        HttpRequest request = switch (scenario) {
+            case OPERATION -> post("/api/v1/operations", """
+                    {"externalReference":"%s","type":"DEPOSIT","targetAccountId":"%s","amount":10.00,"source":"load-test"}
+                    """.formatted(nextReference(profile.duplicateRatio()), accountId));
+            case BALANCE -> HttpRequest.newBuilder(uri("/api/v1/accounts/" + accountId + "/balance")).GET().build();
+            case RECONCILIATION -> post("/api/v1/reconciliation", """
+                    {"accountId":"%s","expectedBalance":100.00}
+                    """.formatted(accountId));
+        };
+
+        long started = System.nanoTime();
+        boolean success;
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            success = response.statusCode() / 100 == 2;
+        } catch (Exception ex) {
+            success = false;
+        }
+        report.record(scenario, System.nanoTime() - started, success);
+    }
+
+    /**
+     * New reference, or (with the duplicate ratio) one sent recently
+     */
+    private String nextReference(double duplicateRatio) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < duplicateRatio) {
+            String recent = recentReferences.get(random.nextInt(RECENT_REFERENCES));
+            if (recent != null)
+                return recent;
+        }
+        long sequence = referenceSequence.incrementAndGet();
+        String reference = "LOAD-" + UUID.randomUUID();
+        recentReferences.set((int) (sequence % RECENT_REFERENCES), reference);
+        return reference;
+    }
+
+    private List<UUID> createAccounts(int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Account account = Account.create(AccountType.USER);
+            accountRepository.save(EntityMapper.toJpa(account));
+            ids.add(account.getId());
+        }
+        return ids;
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ledgerservice.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from system properties (-Dload.*)
+ *
+ * - load.duration: measured run time (default 30s)
+ * - load.warmup: run time before measuring (default 10s)
+ * - load.concurrency: concurrent clients, each a closed loop (default 32)
+ * - load.accounts: accounts the traffic is spread over (default 100)
+ * - load.mix: weight per scenario (default operation=70,balance=20,reconciliation=10)
+ * - load.duplicate-ratio: share of operations that resend an already used
+ * external reference (default 0.1)
+ */
+record LoadProfile(
+        Duration duration,
+        Duration warmup,
+        int concurrency,
+        int accounts,
+        Map<Scenario, Integer> mix,
+        double duplicateRatio) {
+
+    enum Scenario {
+        OPERATION,
+        BALANCE,
+        RECONCILIATION
+    }
+
+    LoadProfile {
+        if (concurrency <= 0 || accounts <= 0)
+            throw new IllegalArgumentException("Concurrency and accounts must be positive");
+        if (duplicateRatio < 0 || duplicateRatio > 1)
+            throw new IllegalArgumentException("Duplicate ratio must be between 0 and 1");
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0)
+            throw new IllegalArgumentException("Mix must have at least one positive weight");
+    }
+
+    static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Duration.parse("PT" + System.getProperty("load.duration", "30s")),
+                Duration.parse("PT" + System.getProperty("load.warmup", "10s")),
+                Integer.getInteger("load.concurrency", 32),
+                Integer.getInteger("load.accounts", 100),
+                parseMix(System.getProperty("load.mix", "operation=70,balance=20,reconciliation=10")),
+                Double.parseDouble(System.getProperty("load.duplicate-ratio", "0.1")));
+    }
+
+    /**
+     * Picks a scenario according to the mix weights
+     *
+     * @param roll uniform value in [0, total weight)
+     */
+    Scenario pick(int roll) {
+        for (var weight : mix.entrySet()) {
+            roll -= weight.getValue();
+            if (roll < 0)
+                return weight.getKey();
+        }
+        throw new IllegalArgumentException("Roll out of range");
+    }
+
+    int totalWeight() {
+        return mix.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String part : value.split(",")) {
+            String[] weight = part.split("=", 2);
+            if (weight.length != 2)
+                throw new IllegalArgumentException("Invalid load.mix entry: " + part);
+            mix.put(Scenario.valueOf(weight[0].strip().toUpperCase()), Integer.parseInt(weight[1].strip()));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,107 @@
+package com.ledgerservice.load;
+
+import com.ledgerservice.load.LoadProfile.Scenario;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency histograms (HdrHistogram, microseconds) and error counts per
+ * scenario, printed as a table and written as JSON
+ */
+final class LoadReport {
+
+    private static final long MAX_TRACKED_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Scenario, Histogram> latencies = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, AtomicLong> errors = new EnumMap<>(Scenario.class);
+
+    LoadReport() {
+        for (Scenario scenario : Scenario.values()) {
+            latencies.put(scenario, new ConcurrentHistogram(MAX_TRACKED_MICROS, 3));
+            errors.put(scenario, new AtomicLong());
+        }
+    }
+
+    void record(Scenario scenario, long elapsedNanos, boolean success) {
+        latencies.get(scenario).recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_TRACKED_MICROS));
+        if (!success)
+            errors.get(scenario).incrementAndGet();
+    }
+
+    long totalRequests() {
+        return latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    String toTable(Duration elapsed) {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT,
+                "%-15s %10s %10s %8s %10s %10s %10s %10s%n",
+                "scenario", "requests", "ops/sec", "errors", "p50 (ms)", "p99 (ms)", "p999 (ms)", "max (ms)"));
+        for (Scenario scenario : Scenario.values()) {
+            Histogram histogram = latencies.get(scenario);
+            table.append(String.format(Locale.ROOT,
+                    "%-15s %10d %10.1f %8d %10.2f %10.2f %10.2f %10.2f%n",
+                    scenario.name().toLowerCase(),
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / seconds(elapsed),
+                    errors.get(scenario).get(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue())));
+        }
+        return table.toString();
+    }
+
+    void writeJson(Path file, LoadProfile profile, Duration elapsed) throws IOException {
+        StringBuilder json = new StringBuilder("{\"profile\":{")
+                .append("\"durationSeconds\":").append(profile.duration().toSeconds())
+                .append(",\"concurrency\":").append(profile.concurrency())
+                .append(",\"accounts\":").append(profile.accounts())
+                .append(",\"duplicateRatio\":").append(profile.duplicateRatio())
+                .append("},\"scenarios\":{");
+
+        boolean first = true;
+        for (Scenario scenario : Scenario.values()) {
+            Histogram histogram = latencies.get(scenario);
+            if (!first)
+                json.append(',');
+            first = false;
+            json.append('"').append(scenario.name().toLowerCase()).append("\":{")
+                    .append("\"requests\":").append(histogram.getTotalCount())
+                    .append(",\"opsPerSecond\":").append(String.format(Locale.ROOT, "%.1f",
+                            histogram.getTotalCount() / seconds(elapsed)))
+                    .append(",\"errors\":").append(errors.get(scenario).get())
+                    .append(",\"p50Micros\":").append(histogram.getValueAtPercentile(50))
+                    .append(",\"p99Micros\":").append(histogram.getValueAtPercentile(99))
+                    .append(",\"p999Micros\":").append(histogram.getValueAtPercentile(99.9))
+                    .append(",\"maxMicros\":").append(histogram.getMaxValue())
+                    .append('}');
+        }
+        json.append("}}\n");
+
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, json);
+    }
+
+    private static double seconds(Duration elapsed) {
+        return Math.max(elapsed.toNanos() / 1e9, 1e-9);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -7,6 +7,7 @@ import com.ledgerservice.domain.enums.AccountType;
 import com.ledgerservice.domain.enums.OperationType;
 import com.ledgerservice.domain.valueobjects.ExternalReference;
 import com.ledgerservice.domain.valueobjects.Money;
+import com.ledgerservice.infrastructure.idempotency.IdempotencyCache;
 import com.ledgerservice.infrastructure.persistence.mappers.EntityMapper;
 import com.ledgerservice.infrastructure.persistence.repositories.AccountJpaRepository;
 import com.ledgerservice.infrastructure.persistence.repositories.EntryJpaRepository;
@@ -50,6 +51,9 @@ class DuplicateOperationIntegrationTest {
     @Autowired
     private EntryJpaRepository entryRepository;
 
+    @Autowired
+    private IdempotencyCache idempotencyCache;
+
     private UUID accountId;
 
     @BeforeEach
@@ -58,6 +62,7 @@ class DuplicateOperationIntegrationTest {
         entryRepository.deleteAll();
         operationRepository.deleteAll();
         accountRepository.deleteAll();
+        idempotencyCache.clear();
 
         // Create test account
         Account account = Account.create(AccountType.USER);